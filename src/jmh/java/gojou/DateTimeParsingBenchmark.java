@@ -0,0 +1,41 @@
+package gojou;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how quickly dates in the "yyyy-MM-dd HHmm" layout are read, comparing {@link Parser#convertDateTime}
+ * with parsing through the formatter alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeParsingBenchmark {
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String[] DATES = {"2024-09-19 1800", "2024-02-29 0000", "1999-12-31 2359", "2031-06-01 0930"};
+
+    private int next;
+
+    private String nextDate() {
+        next = (next + 1) % DATES.length;
+        return DATES[next];
+    }
+
+    @Benchmark
+    public LocalDateTime parseWithFormatter() {
+        return LocalDateTime.parse(nextDate(), FORMAT);
+    }
+
+    @Benchmark
+    public LocalDateTime convertDateTime() {
+        return Parser.convertDateTime(nextDate());
+    }
+}
@@ -0,0 +1,84 @@
+package gojou;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import gojou.command.Command;
+import gojou.task.Task;
+
+/**
+ * Measures how quickly a line of user input is turned into a Command for each kind of command, and how quickly
+ * the words of the line are split out by {@link Tokenizer} compared with the {@link Scanner} used before.
+ * Add commands are also measured all the way to the Task, since that is where their dates are read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final int LINE_COUNT = 1024;
+
+    @Param({"todo", "deadline", "event", "mark", "delete", "find", "list"})
+    public String commandType;
+
+    private List<String> lines;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        lines = new TaskGenerator(42).nextCommands(new String[] {commandType}, LINE_COUNT);
+    }
+
+    private String nextLine() {
+        next = (next + 1) % LINE_COUNT;
+        return lines.get(next);
+    }
+
+    @Benchmark
+    public Command parse() throws GojouException {
+        return Parser.parse(nextLine());
+    }
+
+    @Benchmark
+    public void splitWithTokenizer(Blackhole blackhole) {
+        Tokenizer tokenizer = new Tokenizer(nextLine());
+        while (tokenizer.hasNext()) {
+            blackhole.consume(tokenizer.next());
+        }
+    }
+
+    @Benchmark
+    public void splitWithScanner(Blackhole blackhole) {
+        Scanner scanner = new Scanner(nextLine());
+        while (scanner.hasNext()) {
+            blackhole.consume(scanner.next());
+        }
+    }
+
+    @Benchmark
+    public Task makeTask() throws GojouException {
+        Tokenizer tokenizer = new Tokenizer(nextLine());
+        switch (tokenizer.next()) {
+        case "todo":
+            return Parser.makeTodoTask(tokenizer, new ArrayList<>(), false);
+        case "deadline":
+            return Parser.makeDeadlineTask(tokenizer, new ArrayList<>(), false);
+        case "event":
+            return Parser.makeEventTask(tokenizer, new ArrayList<>(), false);
+        default:
+            // Only add commands make tasks
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package gojou;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gojou.task.Task;
+
+/**
+ * Measures how long it takes to load and save the task file in the text and the binary format.
+ * Saves are not forced onto the disk, so the numbers are about Gojou rather than about the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"text", "binary"})
+    public String format;
+
+    private Path directory;
+    private Storage storage;
+    private ArrayList<Task> tasks;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("gojou-benchmark");
+        tasks = new TaskGenerator(42).nextTasks(taskCount);
+        storage = new Storage(directory.resolve("Gojou.txt").toString());
+        storage.setDurabilityPolicy(DurabilityPolicy.NEVER);
+        storage.convert(tasks, format.equals("binary"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Task> load() throws GojouException, IOException {
+        return storage.load();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.save(tasks);
+    }
+}
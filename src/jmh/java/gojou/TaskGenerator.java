@@ -0,0 +1,136 @@
+package gojou;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Priority;
+import gojou.task.Task;
+import gojou.task.Todo;
+
+/**
+ * Makes up tasks and lines of user input for the benchmarks.
+ * Task names are built from a small vocabulary, so each word appears in about one task in twenty.
+ * A generator made with the same seed always gives the same data.
+ */
+public class TaskGenerator {
+    private static final String[] VERBS = {"submit", "review", "prepare", "read", "write", "plan", "fix", "email",
+        "book", "buy", "clean", "finish", "start", "check", "update", "call", "return", "print", "draft", "send"};
+    private static final String[] NOUNS = {"assignment", "report", "slides", "chapter", "essay", "budget", "bug",
+        "tutor", "flight", "groceries", "room", "project", "meeting", "timesheet", "resume", "parents", "book",
+        "notes", "proposal", "quarterly"};
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MINUTES_IN_TWO_YEARS = 2 * 365 * 24 * 60;
+
+    private final Random random;
+
+    /**
+     * Constructs a TaskGenerator whose data is fixed by the seed.
+     *
+     * @param seed The seed of the random numbers behind the data.
+     */
+    public TaskGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Makes up a list of tasks, a third each of todos, deadlines and events.
+     *
+     * @param count The number of tasks to make.
+     * @return The tasks.
+     */
+    public ArrayList<Task> nextTasks(int count) {
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(nextTask());
+        }
+        return tasks;
+    }
+
+    /**
+     * Makes up a todo, deadline or event with a random name, priority, completion status and dates.
+     *
+     * @return The task.
+     */
+    public Task nextTask() {
+        String name = nextName();
+        boolean isDone = random.nextInt(4) == 0;
+        Priority priority = PRIORITIES[random.nextInt(PRIORITIES.length)];
+        switch (random.nextInt(3)) {
+        case 0:
+            return new Todo(name, isDone, priority);
+        case 1:
+            return new Deadline(name, isDone, priority, nextDateTime());
+        default:
+            LocalDateTime start = nextDateTime();
+            return new Event(name, isDone, priority, start, start.plusMinutes(30 + random.nextInt(600)));
+        }
+    }
+
+    /**
+     * Makes up a line of user input for the given command.
+     *
+     * @param commandType The first word of the command, such as "todo", "mark" or "find".
+     * @return The line of input.
+     */
+    public String nextCommand(String commandType) {
+        switch (commandType) {
+        case "todo":
+            return "todo " + nextName() + " //medium";
+        case "deadline":
+            return "deadline " + nextName() + " /by " + format(nextDateTime());
+        case "event":
+            LocalDateTime start = nextDateTime();
+            return "event " + nextName() + " //high /from " + format(start) + " /to " + format(start.plusHours(2));
+        case "mark", "unmark", "delete":
+            int first = 1 + random.nextInt(100);
+            return commandType + " " + first + "-" + (first + 20) + "," + (first + 40);
+        case "find":
+            return "find " + NOUNS[random.nextInt(NOUNS.length)];
+        default:
+            return commandType;
+        }
+    }
+
+    /**
+     * Returns a word that appears in about one in twenty of the generated task names.
+     *
+     * @return A word from the vocabulary of task names.
+     */
+    public String nextWord() {
+        return NOUNS[random.nextInt(NOUNS.length)];
+    }
+
+    private String nextName() {
+        return VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " "
+                + random.nextInt(1000);
+    }
+
+    private LocalDateTime nextDateTime() {
+        return FIRST_DATE.plusMinutes(random.nextInt(MINUTES_IN_TWO_YEARS));
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return String.format("%04d-%02d-%02d %02d%02d", dateTime.getYear(), dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute());
+    }
+
+    /**
+     * Makes up lines of user input, cycling through the given commands.
+     *
+     * @param commandTypes The first words of the commands.
+     * @param count The number of lines to make.
+     * @return The lines of input.
+     */
+    public List<String> nextCommands(String[] commandTypes, int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(nextCommand(commandTypes[i % commandTypes.length]));
+        }
+        return lines;
+    }
+}
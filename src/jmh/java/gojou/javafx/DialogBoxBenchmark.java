@@ -0,0 +1,63 @@
+package gojou.javafx;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+
+/**
+ * Measures how long it takes to build a chat bubble, comparing the code-built {@link DialogBox} with loading
+ * {@code DialogBox.fxml} for every bubble as it used to be done, and with filling in a bubble that a list cell
+ * already has.
+ * The bubbles are never shown, so they are built on the benchmark thread once the JavaFX toolkit is running.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DialogBoxBenchmark {
+    private Image image;
+    private DialogBox reused;
+    private boolean isFromUser;
+
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // The toolkit is already running from an earlier benchmark in this JVM
+        }
+        image = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/Gojou4.png"));
+        reused = new DialogBox();
+    }
+
+    @Benchmark
+    public HBox buildFromFxml() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(DialogBoxBenchmark.class.getResource("/view/DialogBox.fxml"));
+        fxmlLoader.setRoot(new HBox());
+        return fxmlLoader.load();
+    }
+
+    @Benchmark
+    public DialogBox buildInCode() {
+        return DialogBox.getGojouDialog("Got it. I've added this task: ", image, "AddCommand");
+    }
+
+    @Benchmark
+    public DialogBox fillInExisting() {
+        // Switches between the user and Gojou, as scrolling through a conversation does
+        isFromUser = !isFromUser;
+        reused.setMessage("Got it. I've added this task: ", image, isFromUser, "AddCommand");
+        return reused;
+    }
+}
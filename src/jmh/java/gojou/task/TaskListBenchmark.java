@@ -0,0 +1,115 @@
+package gojou.task;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gojou.DurabilityPolicy;
+import gojou.Storage;
+import gojou.TaskGenerator;
+import gojou.Ui;
+
+/**
+ * Measures adding, deleting and finding tasks in lists of different sizes, including recording the change in
+ * the journal. Adding and deleting are measured together so that the list stays the same size throughout.
+ * The search index is built again before every iteration, as it would be after a search, so that deleting also
+ * has to update it. The index is dropped once more tasks have been deleted than are left in the list, so adding
+ * and deleting are timed in batches of {@value #CHANGES_PER_ITERATION}, which is fewer than the smallest list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    private static final int CHANGES_PER_ITERATION = 500;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final Ui ui = new Ui();
+    private TaskGenerator generator;
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+    private String word;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("gojou-benchmark");
+        generator = new TaskGenerator(42);
+        storage = new Storage(directory.resolve("Gojou.txt").toString());
+        storage.setDurabilityPolicy(DurabilityPolicy.NEVER);
+        tasks = new TaskList(generator.nextTasks(size));
+        storage.save(tasks.toArrayList());
+    }
+
+    @Setup(Level.Iteration)
+    public void buildIndex() {
+        // A new TaskList starts without an index, so none of the deletes of the last iteration are left in it
+        tasks = new TaskList(tasks.toArrayList());
+        word = generator.nextWord();
+        tasks.findWholeWords(word, ui);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.flush();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Adds a task and deletes it again. It is the newest task, so it is the last one in every posting list.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = CHANGES_PER_ITERATION)
+    @Measurement(batchSize = CHANGES_PER_ITERATION)
+    public String addThenDelete() throws IOException {
+        tasks.add(new Todo("read chapter 5", false, Priority.NONE), storage);
+        return tasks.delete(tasks.getSize(), storage, ui);
+    }
+
+    /**
+     * Deletes the first task and adds it back at the end of its priority, so the list keeps the same tasks.
+     * Tasks added early are near the front of the posting lists.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = CHANGES_PER_ITERATION)
+    @Measurement(batchSize = CHANGES_PER_ITERATION)
+    public String deleteFirstThenAddBack() throws IOException {
+        Task first = tasks.get(1);
+        String response = tasks.delete(1, storage, ui);
+        tasks.add(first, storage);
+        return response;
+    }
+
+    @Benchmark
+    public String findWord() {
+        return tasks.findWord(word, ui);
+    }
+
+    @Benchmark
+    public String findWholeWords() {
+        return tasks.findWholeWords(word, ui);
+    }
+}
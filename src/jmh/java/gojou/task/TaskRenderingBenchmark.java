@@ -0,0 +1,104 @@
+package gojou.task;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gojou.TaskGenerator;
+
+/**
+ * Measures rendering a task for display and for storage, comparing {@link Task#toString()},
+ * {@link Task#appendTo(StringBuilder)} and {@link Task#appendStorageTo(StringBuilder)} with the
+ * {@code String.format} and {@code DateTimeFormatter.ofPattern} rendering used before.
+ * Run with the gc profiler to see the bytes allocated per task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskRenderingBenchmark {
+    private static final int TASK_COUNT = 1024;
+
+    private final StringBuilder sb = new StringBuilder();
+    private List<Task> tasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tasks = new TaskGenerator(42).nextTasks(TASK_COUNT);
+    }
+
+    private Task nextTask() {
+        next = (next + 1) % TASK_COUNT;
+        sb.setLength(0);
+        return tasks.get(next);
+    }
+
+    @Benchmark
+    public String displayWithFormat() {
+        return formatForDisplay(nextTask());
+    }
+
+    @Benchmark
+    public String displayWithToString() {
+        return nextTask().toString();
+    }
+
+    @Benchmark
+    public StringBuilder displayWithAppendTo() {
+        nextTask().appendTo(sb);
+        return sb;
+    }
+
+    @Benchmark
+    public String storageWithFormat() {
+        return formatForStorage(nextTask());
+    }
+
+    @Benchmark
+    public StringBuilder storageWithAppendStorageTo() {
+        nextTask().appendStorageTo(sb);
+        return sb;
+    }
+
+    private static String formatForDisplay(Task task) {
+        String priorityBox = task.getPriority() == Priority.NONE ? "[-]" : "[" + task.getPriority() + "]";
+        String base = String.format("%s%s %s", priorityBox, task.isCompleted() ? "[X]" : "[ ]",
+                task.getTaskName());
+        if (task instanceof Deadline) {
+            return "[D]" + base + " (by: " + ((Deadline) task).getDeadline()
+                    .format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + ")";
+        } else if (task instanceof Event) {
+            return "[E]" + base + " (from: " + ((Event) task).getStartTime()
+                    .format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + " to: " + ((Event) task).getEndTime()
+                    .format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + ")";
+        } else {
+            return "[T]" + base;
+        }
+    }
+
+    private static String formatForStorage(Task task) {
+        String priority = task.getPriority() == Priority.NONE
+                ? ""
+                : "//" + task.getPriority().name().toLowerCase(Locale.ROOT);
+        String base = String.format("%s %s %s", task.isCompleted() ? "[X]" : "[ ]", task.getTaskName(), priority);
+        if (task instanceof Deadline) {
+            return "[D]" + base + " /by " + ((Deadline) task).getDeadline()
+                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+        } else if (task instanceof Event) {
+            return "[E]" + base + " /from " + ((Event) task).getStartTime()
+                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm")) + " /to " + ((Event) task).getEndTime()
+                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+        } else {
+            return "[T]" + base;
+        }
+    }
+}
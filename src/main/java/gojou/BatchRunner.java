@@ -0,0 +1,136 @@
+package gojou;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Runs Gojou without a window, for scripts and pipes. Commands are read one per line from a file or from
+ * standard input and handed to {@link Gojou#getResponse(String)} on the calling thread, and each response is
+ * written to standard output followed by a blank line.
+ * Output is buffered and only written out when the buffer fills up, at the end of the input, or after every
+ * command when a person is typing at the console. Changes to the tasks are held back and written to the task
+ * file together every flush interval and at the end of the input, so a script can run hundreds of thousands of
+ * commands a second.
+ *
+ * <p>Usage: {@code BatchRunner [--data <task file>] [--flush-interval <millis>] [<command file>]}
+ */
+public class BatchRunner {
+    private static final String DEFAULT_DATA_PATH = "./data/Gojou.txt";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int BUFFER_CHARS = 1 << 16;
+
+    private final Gojou gojou;
+    private final Writer out;
+    private final boolean isInteractive;
+
+    /**
+     * Constructs a BatchRunner that writes responses to the given writer.
+     *
+     * @param gojou The Gojou to run the commands on, with its tasks already loaded.
+     * @param out Receives the responses.
+     * @param isInteractive True to write out every response straight away, false to write them out in large
+     *     chunks.
+     */
+    public BatchRunner(Gojou gojou, Writer out, boolean isInteractive) {
+        this.gojou = gojou;
+        this.out = out;
+        this.isInteractive = isInteractive;
+    }
+
+    /**
+     * Runs every command in the input until it ends or the user says bye, then writes out the remaining
+     * responses and saves the remaining changes.
+     *
+     * @param in The commands, one per line. Blank lines are skipped.
+     * @return The number of commands run.
+     * @throws IOException If the input cannot be read or the output or task file cannot be written.
+     */
+    public long run(BufferedReader in) throws IOException {
+        long commandCount = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String input = line.strip();
+            if (input.isEmpty()) {
+                continue;
+            }
+            Pair<String, String> response = gojou.getResponse(input);
+            commandCount++;
+            out.write(response.getFirst());
+            out.write("\n\n");
+            if (isInteractive) {
+                out.flush();
+            }
+            if (response.getSecond().equals("ExitCommand")) {
+                break;
+            }
+        }
+        out.flush();
+        gojou.flush();
+        return commandCount;
+    }
+
+    /**
+     * Reads the options, loads the tasks and runs the commands. Exits with status 1 if the tasks cannot be
+     * loaded, and 2 if the options are wrong.
+     *
+     * @param args The options and the command file, which is standard input if left out.
+     */
+    public static void main(String[] args) throws IOException {
+        String dataPath = DEFAULT_DATA_PATH;
+        long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+        String commandPath = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--data":
+                    dataPath = args[++i];
+                    break;
+                case "--flush-interval":
+                    flushIntervalMillis = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    commandPath = args[i];
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println("Usage: BatchRunner [--data <task file>] [--flush-interval <millis>] "
+                    + "[<command file>]");
+            System.exit(2);
+        }
+
+        Gojou gojou = new Gojou(dataPath);
+        try {
+            gojou.loadTasksFromFile();
+        } catch (GojouException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        gojou.setSaveInterval(flushIntervalMillis);
+
+        // System.out flushes on every line, so the runner writes to standard output through its own buffer
+        boolean isInteractive = commandPath == null && System.console() != null;
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out),
+                Charset.defaultCharset()), BUFFER_CHARS);
+        Reader reader = commandPath == null
+                ? new InputStreamReader(System.in, Charset.defaultCharset())
+                : Files.newBufferedReader(Paths.get(commandPath));
+        try (BufferedReader in = new BufferedReader(reader, BUFFER_CHARS)) {
+            if (isInteractive) {
+                out.write(new Ui().showWelcome());
+                out.write("\n\n");
+                out.flush();
+            }
+            new BatchRunner(gojou, out, isInteractive).run(in);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package gojou;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Priority;
+import gojou.task.Task;
+import gojou.task.Todo;
+
+/**
+ * Reads and writes the compact binary snapshot of a task list.
+ * The file starts with the magic bytes "GOJB" and a version byte, followed by the number of tasks.
+ * Each task is stored as a type tag, a byte packing the done flag and priority, the length-prefixed
+ * UTF-8 name, and the dates of deadlines and events as minutes since the epoch.
+ */
+public class BinaryTaskFormat {
+    private static final byte[] MAGIC = {'G', 'O', 'J', 'B'};
+    private static final int VERSION = 1;
+    private static final int DONE_FLAG = 0x80;
+    private static final int PRIORITY_MASK = 0x03;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int MIN_TASK_BYTES = 3;
+    private static final int MAX_LENGTH_SHIFT = 28;
+
+    /**
+     * Checks whether the file at the given path starts with the binary snapshot header.
+     *
+     * @param path The path of the file to check.
+     * @return True if the file is a binary snapshot, false if it is empty or in the text format.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isBinary(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Reads all tasks from a binary snapshot.
+     *
+     * @param path The path of the binary snapshot.
+     * @return The tasks in the order they were written.
+     * @throws GojouException If the snapshot is of an unknown version or is cut short.
+     * @throws IOException If there are issues reading the file.
+     */
+    public static ArrayList<Task> read(Path path) throws GojouException, IOException {
+        ArrayList<Task> list = new ArrayList<>();
+        read(path, Integer.MAX_VALUE, list::addAll);
+        return list;
+    }
+
+    /**
+     * Reads the tasks from a binary snapshot and hands them to the sink in batches, in the order they were written.
+     *
+     * @param path The path of the binary snapshot.
+     * @param batchSize The largest number of tasks in each batch.
+     * @param sink Receives each batch of tasks as soon as it has been read.
+     * @throws GojouException If the snapshot is of an unknown version, is cut short, or holds a count or length
+     *     that cannot fit in what is left of the file.
+     * @throws IOException If there are issues reading the file.
+     */
+    public static void read(Path path, int batchSize, Consumer<List<Task>> sink) throws GojouException, IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            in.skipNBytes(MAGIC.length);
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new GojouException("Whoa, " + path + " was saved by a version of me from the future "
+                        + "(format " + version + "). Even I can't read that yet!");
+            }
+
+            int taskCount = in.readInt();
+            // Every task takes at least a tag, a flags byte and a length byte, so a larger count is damage
+            if (taskCount < 0 || taskCount > in.available() / MIN_TASK_BYTES) {
+                throw new EOFException();
+            }
+            int read = 0;
+            while (read < taskCount) {
+                int count = Math.min(batchSize, taskCount - read);
+                ArrayList<Task> batch = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    batch.add(readTask(in));
+                }
+                sink.accept(batch);
+                read += count;
+            }
+        } catch (EOFException e) {
+            // Counts and lengths that run past the end of the file are reported here too
+            throw new GojouException("Hmm, " + path + " is cut short. Even the strongest can't read "
+                    + "what isn't there!");
+        }
+    }
+
+    private static Task readTask(DataInputStream in) throws GojouException, IOException {
+        int tag = in.readUnsignedByte();
+        int flags = in.readUnsignedByte();
+        boolean isDone = (flags & DONE_FLAG) != 0;
+        Priority priority = PRIORITIES[flags & PRIORITY_MASK];
+        byte[] name = new byte[readLength(in)];
+        in.readFully(name);
+        String taskName = new String(name, StandardCharsets.UTF_8);
+
+        switch (tag) {
+        case 'T':
+            return new Todo(taskName, isDone, priority);
+        case 'D':
+            return new Deadline(taskName, isDone, priority, Parser.fromEpochMinutes(in.readLong()));
+        case 'E':
+            return new Event(taskName, isDone, priority, Parser.fromEpochMinutes(in.readLong()),
+                    Parser.fromEpochMinutes(in.readLong()));
+        case 'N':
+            return new Task(taskName, isDone, priority);
+        default:
+            throw new GojouException("Hmm, there's a task of a type I've never seen (" + tag + ") in the file!");
+        }
+    }
+
+    /**
+     * Writes the tasks to a binary snapshot, replacing the file if it exists.
+     *
+     * @param list The tasks to write.
+     * @param path The path of the binary snapshot.
+     * @throws IOException If there are issues writing the file.
+     */
+    public static void write(List<Task> list, Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(list.size());
+            for (Task task : list) {
+                writeTask(task, out);
+            }
+        }
+    }
+
+    private static void writeTask(Task task, DataOutputStream out) throws IOException {
+        out.writeByte(getTag(task));
+        out.writeByte((task.isCompleted() ? DONE_FLAG : 0) | task.getPriority().ordinal());
+        byte[] name = task.getTaskName().getBytes(StandardCharsets.UTF_8);
+        writeLength(name.length, out);
+        out.write(name);
+
+        if (task instanceof Deadline) {
+            out.writeLong(Parser.toEpochMinutes(((Deadline) task).getDeadline()));
+        } else if (task instanceof Event) {
+            out.writeLong(Parser.toEpochMinutes(((Event) task).getStartTime()));
+            out.writeLong(Parser.toEpochMinutes(((Event) task).getEndTime()));
+        }
+    }
+
+    private static char getTag(Task task) {
+        if (task instanceof Todo) {
+            return 'T';
+        } else if (task instanceof Deadline) {
+            return 'D';
+        } else if (task instanceof Event) {
+            return 'E';
+        } else {
+            return 'N';
+        }
+    }
+
+    /**
+     * Writes a length using 7 bits per byte, so names shorter than 128 bytes only take one byte.
+     */
+    private static void writeLength(int length, DataOutputStream out) throws IOException {
+        while (length >= 0x80) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+    }
+
+    /**
+     * Reads a length written by {@link #writeLength(int, DataOutputStream)}. The stream has to be over a file, so
+     * that {@link InputStream#available()} is the number of bytes left in it.
+     *
+     * @throws EOFException If the length does not fit in an int or is longer than what is left of the file.
+     */
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > MAX_LENGTH_SHIFT) {
+                throw new EOFException();
+            }
+            b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        if (length < 0 || length > in.available()) {
+            throw new EOFException();
+        }
+        return length;
+    }
+}
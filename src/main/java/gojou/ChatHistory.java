@@ -0,0 +1,115 @@
+package gojou;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the older messages of a conversation on disk so that only the latest ones have to be held in memory.
+ * Messages are spilled to the end of the file oldest first, and taken back from the end when the user scrolls
+ * back to them. The offset of every message in the file is kept, so taking back a page of messages only reads
+ * that page.
+ */
+public class ChatHistory implements Closeable {
+    private final Path path;
+    private final RandomAccessFile file;
+    private long[] offsets = new long[16];
+    private int size;
+
+    /**
+     * Opens an empty history in a new temporary file, which is deleted when the history is closed.
+     *
+     * @throws IOException If the file cannot be created.
+     */
+    public ChatHistory() throws IOException {
+        this(Files.createTempFile("gojou", ".history"));
+    }
+
+    /**
+     * Opens an empty history in the given file, replacing anything already in it.
+     * The file is deleted when the history is closed.
+     *
+     * @param path The file to keep the messages in.
+     * @throws IOException If the file cannot be opened.
+     */
+    public ChatHistory(Path path) throws IOException {
+        this.path = path;
+        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this.file.setLength(0);
+        path.toFile().deleteOnExit();
+    }
+
+    /**
+     * Returns the number of messages in the history.
+     *
+     * @return The number of messages on disk.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds messages to the end of the history.
+     *
+     * @param messages The messages to add, oldest first.
+     * @throws IOException If there are issues writing to the file.
+     */
+    public void spill(List<ChatMessage> messages) throws IOException {
+        file.seek(size == 0 ? 0 : offsets[size]);
+        for (ChatMessage message : messages) {
+            if (size + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            file.writeBoolean(message.isFromUser());
+            writeString(message.getCommandType());
+            writeString(message.getText());
+            size++;
+            offsets[size] = file.getFilePointer();
+        }
+    }
+
+    /**
+     * Removes the latest messages from the history and returns them.
+     *
+     * @param count The largest number of messages to take.
+     * @return The messages taken, oldest first.
+     * @throws IOException If there are issues reading the file.
+     */
+    public List<ChatMessage> takeLatest(int count) throws IOException {
+        int first = Math.max(0, size - count);
+        List<ChatMessage> messages = new ArrayList<>(size - first);
+        file.seek(offsets[first]);
+        for (int i = first; i < size; i++) {
+            boolean isFromUser = file.readBoolean();
+            String commandType = readString();
+            messages.add(new ChatMessage(readString(), isFromUser, commandType));
+        }
+        size = first;
+        file.setLength(offsets[first]);
+        return messages;
+    }
+
+    private void writeString(String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        file.writeInt(bytes.length);
+        file.write(bytes);
+    }
+
+    private String readString() throws IOException {
+        byte[] bytes = new byte[file.readInt()];
+        file.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+        Files.deleteIfExists(path);
+    }
+}
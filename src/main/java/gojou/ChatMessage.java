@@ -0,0 +1,56 @@
+package gojou;
+
+/**
+ * Represents a single message in the conversation between the user and Gojou.
+ */
+public class ChatMessage {
+    private String text;
+    private boolean isFromUser;
+    private String commandType;
+
+    /**
+     * Constructs a ChatMessage.
+     *
+     * @param text The text of the message.
+     * @param isFromUser True if the user sent the message, false if Gojou did.
+     * @param commandType The type of command Gojou is replying to, used to style the reply.
+     */
+    public ChatMessage(String text, boolean isFromUser, String commandType) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+        this.commandType = commandType;
+    }
+
+    /**
+     * Constructs a message sent by the user.
+     *
+     * @param text The text of the message.
+     * @return The user's message.
+     */
+    public static ChatMessage fromUser(String text) {
+        return new ChatMessage(text, true, "");
+    }
+
+    /**
+     * Constructs a message sent by Gojou.
+     *
+     * @param text The text of the message.
+     * @param commandType The type of command Gojou is replying to.
+     * @return Gojou's message.
+     */
+    public static ChatMessage fromGojou(String text, String commandType) {
+        return new ChatMessage(text, false, commandType);
+    }
+
+    public String getText() {
+        return this.text;
+    }
+
+    public boolean isFromUser() {
+        return this.isFromUser;
+    }
+
+    public String getCommandType() {
+        return this.commandType;
+    }
+}
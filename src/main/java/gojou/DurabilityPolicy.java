@@ -0,0 +1,12 @@
+package gojou;
+
+/**
+ * Represents how hard Storage tries to get changes onto the disk itself rather than only to the operating system.
+ * PER_BATCH forces every group of changes written to the journal onto the disk, INTERVAL forces them at most
+ * once a second, and NEVER leaves it to the operating system.
+ */
+public enum DurabilityPolicy {
+    PER_BATCH,
+    INTERVAL,
+    NEVER
+}
@@ -1,9 +1,22 @@
 package gojou;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import gojou.command.Command;
+import gojou.metrics.CommandEvent;
+import gojou.metrics.CommandMetrics;
+import gojou.metrics.CommandMetrics.Phase;
 import gojou.task.TaskList;
 
 
@@ -11,20 +24,42 @@ import gojou.task.TaskList;
  * Represents the chatbot Gojou which handles user interactions, processes commands, and manages tasks.
  */
 public class Gojou {
+    private static final long REMINDER_LEAD_MINUTES = 60;
+    private static final long DEFAULT_METRICS_INTERVAL_SECONDS = 60;
+
     private Storage storage;
     private TaskList tasks;
     private Ui ui;
+    private ReminderScheduler reminders;
+    private final CommandMetrics metrics = CommandMetrics.getInstance();
+    // Runs commands one at a time in the order they were sent, away from the thread that reads the input
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gojou-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Completes once the tasks have been loaded, or right away if they are not loaded in the background
+    private volatile CompletableFuture<Void> loading = CompletableFuture.completedFuture(null);
 
     /**
      * Constructs an instance of the Gojou chatbot.
      * Initializes the user interface, storage system, and task list.
      * Loads existing tasks from the specified file path.
+     * If the "gojou.metrics.file" system property is set, the latency of commands is written to that file every
+     * "gojou.metrics.interval" seconds, or every minute if that is not set.
      *
      * @param filePath The path to the file where tasks are stored.
      */
     public Gojou(String filePath) {
         this.ui = new Ui();
         this.storage = new Storage(filePath);
+        this.tasks = new TaskList(new ArrayList<>());
+
+        String metricsFile = System.getProperty("gojou.metrics.file");
+        if (metricsFile != null) {
+            metrics.startDumping(Paths.get(metricsFile),
+                    Math.max(1, Long.getLong("gojou.metrics.interval", DEFAULT_METRICS_INTERVAL_SECONDS)));
+        }
     }
 
     /**
@@ -38,28 +73,211 @@ public class Gojou {
      */
     public void loadTasksFromFile() throws GojouException {
         try {
-            this.tasks = new TaskList(storage.load());
+            storage.load(tasks, taskCount -> { });
         } catch (GojouException | DateTimeParseException | IOException e) {
             throw new GojouException(e.getMessage());
         }
     }
 
+    /**
+     * Starts loading tasks from the file on a background thread and returns straight away.
+     * Commands that only read the tasks can be run in the meantime and see the tasks loaded so far, while
+     * commands that change them wait until loading is done.
+     *
+     * @param onProgress Told the number of tasks loaded so far after each batch, on the loading thread.
+     * @return A future that completes once all tasks are loaded, or completes with a {@link GojouException}
+     *     if they cannot be loaded.
+     */
+    public CompletableFuture<Void> loadTasksInBackground(IntConsumer onProgress) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.loading = future;
+        Thread loader = new Thread(() -> {
+            try {
+                storage.load(tasks, onProgress);
+                future.complete(null);
+            } catch (GojouException | DateTimeParseException | IOException e) {
+                future.completeExceptionally(new GojouException(e.getMessage()));
+            } catch (Throwable e) {
+                // Anything else would end the thread without completing the future, leaving changes waiting forever
+                future.completeExceptionally(new GojouException("Hmm, " + storage.getPath()
+                        + " looks broken. Even I can't read that! (" + e + ")"));
+            }
+        }, "gojou-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return future;
+    }
+
+    /**
+     * Sets how long changes are held back so that they can be written to the task file together.
+     *
+     * @param millis The longest time a change waits to be written, in milliseconds.
+     */
+    public void setSaveInterval(long millis) {
+        storage.setCommitWindow(millis);
+    }
+
+    /**
+     * Writes any changes that are still being held back to the task file.
+     *
+     * @throws IOException If there are issues writing to the file.
+     */
+    public void flush() throws IOException {
+        storage.flush();
+    }
+
+    /**
+     * Waits for the commands already sent to run, writes out the changes still being held back, and stops the
+     * command thread and the reminders. Commands sent afterwards are rejected.
+     *
+     * @throws IOException If there are issues writing to the file.
+     */
+    public void shutdown() throws IOException {
+        if (commandExecutor.isShutdown()) {
+            storage.flush();
+            return;
+        }
+        // The flush is queued behind the pending commands, so the changes they make are written out too
+        Future<Void> flushed = commandExecutor.submit(() -> {
+            storage.flush();
+            return null;
+        });
+        commandExecutor.shutdown();
+        try {
+            flushed.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the last commands to be saved", e);
+        }
+        if (reminders != null) {
+            reminders.stop();
+        }
+    }
+
+    /**
+     * Returns the number of tasks in the list, including tasks that are still being loaded.
+     *
+     * @return The number of tasks loaded so far.
+     */
+    public int getTaskCount() {
+        return tasks.getSize();
+    }
+
+    /**
+     * Starts reminding the user of Deadlines due within the hour and Events starting within the hour.
+     * Reminders are worked out on a background thread, so the notifier has to hand them over to the
+     * thread that shows them. The reminders are set up on the command thread, between commands, so
+     * that no task added by a command is missed.
+     *
+     * @param notifier Receives the reminder messages, on the reminder thread.
+     */
+    public void startReminders(Consumer<String> notifier) {
+        commandExecutor.execute(() -> {
+            this.reminders = new ReminderScheduler(dueTasks -> notifier.accept(ui.showReminder(dueTasks)),
+                    REMINDER_LEAD_MINUTES);
+            this.reminders.scheduleAll(tasks.toArrayList());
+            this.tasks.setListener(reminders);
+            this.reminders.start();
+        });
+    }
+
     /**
      * Processes the user's input and generates a response based on the command.
      * Executes the command and returns a pair containing the response and the command type.
+     * The time taken to parse the input, to execute the command and to save its changes are recorded separately
+     * under the command type. Input that cannot be parsed is recorded under "Error". A {@link CommandEvent} is
+     * also committed if a flight recording has turned it on.
      *
      * @param input The user's chat message.
      * @return A pair where the first element is the response to the user's input and the second element is the command
      *     type.
      */
     public Pair<String, String> getResponse(String input) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Command c;
+        try {
+            c = Parser.parse(input);
+        } catch (GojouException e) {
+            metrics.record("Error", Phase.PARSE, System.nanoTime() - start);
+            commitEvent(event, "Error", input, false);
+            return new Pair<>(ui.showError(e), "Error");
+        }
+        String commandType = getMetricsName(c);
+        metrics.record(commandType, Phase.PARSE, System.nanoTime() - start);
+
+        metrics.takePersistNanos();
+        start = System.nanoTime();
         try {
-            Command c = Parser.parse(input);
+            if (!c.isReadOnly()) {
+                awaitLoading();
+            }
             String response = c.execute(this.tasks, this.ui, this.storage);
+            recordExecution(commandType, start);
+            commitEvent(event, commandType, input, true);
             String command = c.getCommandType();
             return new Pair<>(response, command);
         } catch (GojouException | IOException e) {
+            recordExecution(commandType, start);
+            commitEvent(event, commandType, input, false);
             return new Pair<>(ui.showError(e), "Error");
         }
     }
+
+    /**
+     * Commits the flight recorder event of a command, filling it in only if a recording wants it.
+     */
+    private static void commitEvent(CommandEvent event, String commandType, String input, boolean isSuccess) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setCommandType(commandType);
+            event.setInputLength(input.length());
+            event.setOutcome(isSuccess ? "success" : "error");
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the time a command spent saving its changes, and the rest of the time since it started executing.
+     */
+    private void recordExecution(String commandType, long start) {
+        long persistNanos = metrics.takePersistNanos();
+        metrics.record(commandType, Phase.EXECUTE, System.nanoTime() - start - persistNanos);
+        metrics.record(commandType, Phase.PERSIST, persistNanos);
+    }
+
+    /**
+     * Returns the name the metrics of a command are kept under, which is its command type, or the name of its
+     * class for commands without a type of their own.
+     */
+    private static String getMetricsName(Command c) {
+        String commandType = c.getCommandType();
+        return commandType.isEmpty() ? c.getClass().getSimpleName() : commandType;
+    }
+
+    private void awaitLoading() throws GojouException {
+        try {
+            loading.join();
+        } catch (CompletionException e) {
+            throw new GojouException(e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Processes the user's input on Gojou's command thread instead of the calling thread.
+     * Commands run one at a time in the order they were sent, so each one sees the changes made by the ones
+     * before it.
+     *
+     * @param input The user's chat message.
+     * @return A future that completes with the same pair as {@link #getResponse(String)} once the command has run.
+     */
+    public CompletableFuture<Pair<String, String>> getResponseAsync(String input) {
+        return CompletableFuture.supplyAsync(() -> getResponse(input), commandExecutor);
+    }
 }
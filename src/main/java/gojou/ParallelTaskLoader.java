@@ -0,0 +1,188 @@
+package gojou;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import gojou.task.Task;
+
+/**
+ * Loads a large task file by parsing newline-aligned chunks of it on a ForkJoin pool.
+ * Each chunk reads its own part of the file with positional reads on a shared channel, so the file is not
+ * mapped and can be replaced as soon as loading is done.
+ * The tasks of each chunk are joined back together in file order, so the result is the same
+ * as reading the file line by line with a {@link TaskFileReader}.
+ */
+public class ParallelTaskLoader {
+    private static final int MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int LINE_END_SEARCH_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a ParallelTaskLoader that parses chunks on the given pool.
+     *
+     * @param pool The pool to run the chunk parsers on.
+     */
+    public ParallelTaskLoader(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Reads all tasks from the file, skipping blank lines.
+     *
+     * @param path The path of the task file.
+     * @return The tasks in the order they appear in the file.
+     * @throws GojouException If a line is not a valid task record. The message starts with its line number.
+     * @throws IOException If there are issues reading the file.
+     */
+    public ArrayList<Task> load(Path path) throws GojouException, IOException {
+        ArrayList<Task> list = new ArrayList<>();
+        load(path, list::addAll);
+        return list;
+    }
+
+    /**
+     * Reads all tasks from the file, skipping blank lines, and hands them to the sink a chunk at a time.
+     * Chunks are parsed at the same time, but each is handed over as soon as it and all chunks before it are done.
+     *
+     * @param path The path of the task file.
+     * @param sink Receives the tasks of each chunk, in the order they appear in the file.
+     * @throws GojouException If a line is not a valid task record. The message starts with its line number.
+     * @throws IOException If there are issues reading the file.
+     */
+    public void load(Path path, Consumer<List<Task>> sink) throws GojouException, IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be loaded in parallel");
+            }
+            List<Chunk> chunks = split(channel);
+            for (Chunk chunk : chunks) {
+                pool.execute(chunk);
+            }
+
+            int linesBefore = 0;
+            for (Chunk chunk : chunks) {
+                chunk.join();
+                if (chunk.readError != null) {
+                    throw chunk.readError;
+                }
+                if (chunk.error != null) {
+                    throw new GojouException("Line " + (linesBefore + chunk.lineCount) + ": " + chunk.error);
+                }
+                sink.accept(chunk.tasks);
+                linesBefore += chunk.lineCount;
+            }
+        }
+    }
+
+    /**
+     * Cuts the file into roughly equal chunks, moving each cut to just after the next line break.
+     */
+    private List<Chunk> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long chunkCount = Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, size / MIN_CHUNK_SIZE));
+        List<Chunk> chunks = new ArrayList<>();
+
+        long start = 0;
+        for (long i = 1; i <= chunkCount && start < size; i++) {
+            long end = i == chunkCount ? size : findLineEnd(channel, size * i / chunkCount - 1, size);
+            if (end > start) {
+                chunks.add(new Chunk(channel, start, end));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the offset just after the first line break at or after the given offset, or the size of the file
+     * if there is none.
+     */
+    private static long findLineEnd(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LINE_END_SEARCH_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Parses the lines between two offsets of the file. If a line cannot be parsed, parsing stops there
+     * and the line count is left at that line.
+     */
+    private static class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long start;
+        private final long end;
+        private final transient ArrayList<Task> tasks = new ArrayList<>();
+        private int lineCount;
+        private String error;
+        private transient IOException readError;
+
+        Chunk(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            byte[] bytes = new byte[(int) (end - start)];
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        throw new IOException("The task file got shorter while it was being loaded");
+                    }
+                }
+            } catch (IOException e) {
+                readError = e;
+                return;
+            }
+            TaskRecordParser parser = new TaskRecordParser();
+
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = lineStart;
+                while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                lineCount++;
+
+                try {
+                    Task task = parser.parse(bytes, lineStart, lineEnd);
+                    if (task != null) {
+                        tasks.add(task);
+                    }
+                } catch (GojouException | DateTimeParseException e) {
+                    error = e.getMessage();
+                    return;
+                }
+                lineStart = lineEnd + 1;
+            }
+        }
+    }
+}
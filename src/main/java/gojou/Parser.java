@@ -1,18 +1,25 @@
 package gojou;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.BitSet;
 
 import gojou.command.AddCommand;
 import gojou.command.Command;
 import gojou.command.DeleteCommand;
 import gojou.command.ExitCommand;
+import gojou.command.ExportCommand;
 import gojou.command.FindCommand;
+import gojou.command.ImportCommand;
 import gojou.command.ListCommand;
 import gojou.command.MarkCommand;
+import gojou.command.OverlapsCommand;
+import gojou.command.StatsCommand;
 import gojou.task.Deadline;
 import gojou.task.Event;
 import gojou.task.Priority;
@@ -23,6 +30,9 @@ import gojou.task.Todo;
  * Helps to parse user inputs and convert them into appropriate commands and tasks.
  */
 public class Parser {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-dd HHmm".length();
+
     /**
      * Parses the user input and returns the corresponding Command object.
      * Throws an exception if the input is invalid.
@@ -33,42 +43,167 @@ public class Parser {
      */
     public static Command parse(String fullCommand) throws GojouException {
         assert !fullCommand.isEmpty() : "Empty command";
-        Scanner lineScanner = new Scanner(fullCommand);
+        Tokenizer lineTokenizer = new Tokenizer(fullCommand);
 
         // Obtain the first word of user input
-        String response = lineScanner.next();
+        String response = lineTokenizer.next();
 
         // Creates respective command classes to handle different functions based on user input
         switch (response) {
         case "bye":
             return new ExitCommand();
         case "list":
-            return new ListCommand();
+            return new ListCommand(lineTokenizer);
         case "mark", "unmark":
-            return new MarkCommand(lineScanner, response);
+            return new MarkCommand(lineTokenizer, response);
         case "delete":
-            return new DeleteCommand(lineScanner);
+            return new DeleteCommand(lineTokenizer);
         case "todo", "deadline", "event":
-            return new AddCommand(lineScanner, response);
+            return new AddCommand(lineTokenizer, response);
         case "find":
-            return new FindCommand(lineScanner);
+            return new FindCommand(lineTokenizer);
+        case "export":
+            return new ExportCommand(lineTokenizer);
+        case "import":
+            return new ImportCommand(lineTokenizer);
+        case "overlaps":
+            return new OverlapsCommand(lineTokenizer);
+        case "stats":
+            return new StatsCommand();
         default:
             throw new GojouException("Huh, that went right over my head. Even the "
                     + "strongest needs a little clarification sometimes! Please only start with 'todo', "
-                    + "'deadline', 'event', 'mark', 'unmark', 'list', 'delete', 'find' or 'bye'!");
+                    + "'deadline', 'event', 'mark', 'unmark', 'list', 'delete', 'find', 'overlaps', 'export', "
+                    + "'import', 'stats' or 'bye'!");
         }
     }
 
     /**
      * Converts a date and time string into a LocalDateTime object.
+     * A string laid out exactly as "yyyy-MM-dd HHmm" that names a real date and time is read digit by digit.
+     * Anything else is left to the formatter, so the result and any error are the same as parsing with it.
      *
      * @param deadline Date and time string in the format "yyyy-MM-dd HHmm".
      * @return LocalDateTime object corresponding to the provided date and time string.
      * @throws DateTimeParseException If the date and time string is not in the correct format.
      */
     public static LocalDateTime convertDateTime(String deadline) throws DateTimeParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-        return LocalDateTime.parse(deadline, formatter);
+        LocalDateTime dateTime = readFixedWidthDateTime(deadline);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return LocalDateTime.parse(deadline, DATE_TIME_FORMAT);
+    }
+
+    /**
+     * Reads a date and time in the "yyyy-MM-dd HHmm" layout, or returns null if the string has a different layout
+     * or a value out of range. The formatter adjusts some out of range days, such as 2024-02-30, rather than
+     * rejecting them, so those are left to it too.
+     */
+    private static LocalDateTime readFixedWidthDateTime(String text) {
+        if (text.length() != DATE_TIME_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-'
+                || text.charAt(10) != ' ') {
+            return null;
+        }
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 7);
+        int day = readDigits(text, 8, 10);
+        int hour = readDigits(text, 11, 13);
+        int minute = readDigits(text, 13, 15);
+
+        boolean isDateInRange = year >= 1 && month >= 1 && month <= 12 && day >= 1
+                && day <= Month.of(month).length(Year.isLeap(year));
+        boolean isTimeInRange = hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+        if (!isDateInRange || !isTimeInRange) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the number written by the ASCII digits between the given indexes, or -1 if any of them is not a digit.
+     */
+    private static int readDigits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Converts a date and time into the number of minutes since 1970-01-01 0000.
+     *
+     * @param dateTime The date and time to convert.
+     * @return The number of minutes since the epoch.
+     */
+    public static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Reads a list of task numbers and ranges of task numbers separated by commas, such as "3-40,55,60".
+     * A range includes both of its ends. Numbers that appear more than once are only returned once.
+     *
+     * @param numbers The task numbers and ranges, with no spaces in between.
+     * @param taskCount The number of tasks in the list.
+     * @return The task numbers in ascending order.
+     * @throws NumberFormatException If a part of the list is not a number or a range from a smaller number to a
+     *     larger one.
+     * @throws IndexOutOfBoundsException If a number is smaller than 1 or larger than the number of tasks.
+     */
+    public static int[] parseTaskNumbers(String numbers, int taskCount) {
+        String[] parts = numbers.split(",", -1);
+        int[] starts = new int[parts.length];
+        int[] ends = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            // Starts looking for the dash after the first character so that "-1" is read as a number
+            int dash = parts[i].indexOf('-', 1);
+            starts[i] = Integer.parseInt(dash == -1 ? parts[i] : parts[i].substring(0, dash));
+            ends[i] = dash == -1 ? starts[i] : Integer.parseInt(parts[i].substring(dash + 1));
+            if (ends[i] < starts[i]) {
+                throw new NumberFormatException("Range " + parts[i] + " ends before it starts");
+            }
+        }
+
+        // Checks every bound before expanding the ranges, so a huge range cannot use up the memory
+        for (int i = 0; i < parts.length; i++) {
+            if (starts[i] < 1 || ends[i] > taskCount) {
+                throw new IndexOutOfBoundsException("Task " + parts[i] + " out of range for " + taskCount + " tasks");
+            }
+        }
+        // A single number or range is already in order, so it skips the bit set
+        if (parts.length == 1) {
+            int[] taskNumbers = new int[ends[0] - starts[0] + 1];
+            for (int i = 0; i < taskNumbers.length; i++) {
+                taskNumbers[i] = starts[0] + i;
+            }
+            return taskNumbers;
+        }
+        // The bit set only needs to reach the largest number asked for, not the end of the list
+        int largest = 0;
+        for (int end : ends) {
+            largest = Math.max(largest, end);
+        }
+        BitSet taskNumbers = new BitSet(largest + 1);
+        for (int i = 0; i < parts.length; i++) {
+            taskNumbers.set(starts[i], ends[i] + 1);
+        }
+        return taskNumbers.stream().toArray();
+    }
+
+    /**
+     * Converts a number of minutes since 1970-01-01 0000 back into a date and time.
+     *
+     * @param epochMinutes The number of minutes since the epoch.
+     * @return The corresponding LocalDateTime object.
+     */
+    public static LocalDateTime fromEpochMinutes(long epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * 60, 0, ZoneOffset.UTC);
     }
 
     /**
@@ -98,30 +233,34 @@ public class Parser {
     /**
      * Creates a Todo task based on user description.
      *
-     * @param lineScanner Scanner object based on the line of text entered by the user.
+     * @param lineTokenizer Tokenizer over the line of text entered by the user.
      * @param arrOfStr ArrayList of strings to store words entered by the user.
      * @param isDone Boolean value indicating whether the task is marked as done.
      * @return A Todo Task object.
      * @throws GojouException If the task description is empty.
      */
-    public static Task makeTodoTask(Scanner lineScanner, ArrayList<String> arrOfStr, boolean isDone)
+    public static Task makeTodoTask(Tokenizer lineTokenizer, ArrayList<String> arrOfStr, boolean isDone)
             throws GojouException {
         Priority priority = Priority.NONE;
-        while (lineScanner.hasNext()) {
-            priority = getPriority(lineScanner, arrOfStr, priority);
+        while (lineTokenizer.hasNext()) {
+            priority = getPriority(lineTokenizer, arrOfStr, priority);
         }
 
-        if (arrOfStr.isEmpty()) {
+        checkIfTodoIsProvided(!arrOfStr.isEmpty());
+
+        return new Todo(String.join(" ", arrOfStr), isDone, priority);
+    }
+
+    static void checkIfTodoIsProvided(boolean hasDescription) throws GojouException {
+        if (!hasDescription) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
                     + "getting stronger. Let's try that again, shall we? Please provide a todo task");
         }
-
-        return new Todo(String.join(" ", arrOfStr), isDone, priority);
     }
 
-    private static Priority getPriority(Scanner lineScanner, ArrayList<String> arrOfStr, Priority priority)
+    private static Priority getPriority(Tokenizer lineTokenizer, ArrayList<String> arrOfStr, Priority priority)
             throws GojouException {
-        String word = lineScanner.next();
+        String word = lineTokenizer.next();
         if (word.startsWith("//")) {
             priority = readTaskPriority(word);
         } else {
@@ -133,20 +272,20 @@ public class Parser {
     /**
      * Creates a Deadline task based on user description and provided deadline.
      *
-     * @param lineScanner Scanner object based on the line entered by the user.
+     * @param lineTokenizer Tokenizer over the line entered by the user.
      * @param arrOfStr ArrayList of strings to store words entered by the user.
      * @param isDone Boolean value indicating whether the task is marked as done.
      * @return A Deadline Task object.
      * @throws GojouException If no description or deadline is provided, or if provided information is incorrect.
      */
-    public static Task makeDeadlineTask(Scanner lineScanner, ArrayList<String> arrOfStr, boolean isDone)
+    public static Task makeDeadlineTask(Tokenizer lineTokenizer, ArrayList<String> arrOfStr, boolean isDone)
             throws GojouException {
         String description = "";
         boolean hasProvidedDeadline = false;
         Priority priority = Priority.NONE;
 
-        while (lineScanner.hasNext()) {
-            String word = lineScanner.next();
+        while (lineTokenizer.hasNext()) {
+            String word = lineTokenizer.next();
             if (word.startsWith("//")) {
                 priority = readTaskPriority(word);
             } else if (word.equals("/by")) {
@@ -164,7 +303,7 @@ public class Parser {
         return new Deadline(description, isDone, priority, convertDateTime(deadline));
     }
 
-    private static void checkErroneousInput(boolean hasProvidedDeadline, String deadline, String description)
+    static void checkErroneousInput(boolean hasProvidedDeadline, String deadline, String description)
             throws GojouException {
         boolean hasDescriptionButNoSlashBy = !hasProvidedDeadline
                 && !deadline.isEmpty() && description.isEmpty();
@@ -186,25 +325,25 @@ public class Parser {
     /**
      * Creates an Event task based on user description, start time, and end time.
      *
-     * @param lineScanner Scanner object based on the line entered by the user.
+     * @param lineTokenizer Tokenizer over the line entered by the user.
      * @param arrOfStr ArrayList of strings to store words entered by the user.
      * @param isDone Boolean value indicating whether the task is completed.
      * @return An Event Task object.
      * @throws GojouException If no description, start time, or end time is provided, or end time is before start time.
      */
-    public static Task makeEventTask(Scanner lineScanner, ArrayList<String> arrOfStr, boolean isDone)
+    public static Task makeEventTask(Tokenizer lineTokenizer, ArrayList<String> arrOfStr, boolean isDone)
             throws GojouException {
-        checkIfTaskIsProvided(lineScanner);
+        checkIfTaskIsProvided(lineTokenizer.hasNext());
 
-        return getEvent(lineScanner, arrOfStr, isDone);
+        return getEvent(lineTokenizer, arrOfStr, isDone);
     }
 
-    private static Event getEvent(Scanner lineScanner, ArrayList<String> arrOfStr, boolean isDone)
+    private static Event getEvent(Tokenizer lineTokenizer, ArrayList<String> arrOfStr, boolean isDone)
             throws GojouException {
         Priority priority = Priority.NONE;
 
-        while (lineScanner.hasNext()) {
-            priority = getPriority(lineScanner, arrOfStr, priority);
+        while (lineTokenizer.hasNext()) {
+            priority = getPriority(lineTokenizer, arrOfStr, priority);
         }
 
         int startIndex = arrOfStr.indexOf("/from");
@@ -222,7 +361,7 @@ public class Parser {
                 convertDateTime(endDate));
     }
 
-    private static void checkIfDescriptionStartAndEndDateProvided(String description, String startDate, String endDate)
+    static void checkIfDescriptionStartAndEndDateProvided(String description, String startDate, String endDate)
             throws GojouException {
         if (description.isEmpty()) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
@@ -238,7 +377,7 @@ public class Parser {
         }
     }
 
-    private static void checkIfKeywordsByAndToAreProvided(int startIndex, int endIndex) throws GojouException {
+    static void checkIfKeywordsByAndToAreProvided(int startIndex, int endIndex) throws GojouException {
         if (startIndex == -1) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
                     + "getting stronger. Let's try that again, shall we? Please provide a start time with '/from' "
@@ -254,8 +393,8 @@ public class Parser {
         }
     }
 
-    private static void checkIfTaskIsProvided(Scanner lineScanner) throws GojouException {
-        if (!lineScanner.hasNext()) {
+    static void checkIfTaskIsProvided(boolean hasTask) throws GojouException {
+        if (!hasTask) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
                     + "getting stronger. Let's try that again, shall we? Please provide an event task");
         }
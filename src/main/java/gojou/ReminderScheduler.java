@@ -0,0 +1,170 @@
+package gojou;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Task;
+import gojou.task.TaskListener;
+
+/**
+ * Reminds the user of Deadlines that are due soon and Events that are about to start.
+ * Reminders wait in a {@link TimingWheel} that a single background thread moves forward once a minute, and the
+ * Tasks that have become due are handed to a sink together.
+ * A reminder is dropped when its Task is removed, and skipped if the Task is done by the time it comes up.
+ * Done Tasks get no reminder, so a Task is scheduled again when it is marked as not done.
+ */
+public class ReminderScheduler implements TaskListener {
+    private static final long MINUTES_BETWEEN_TICKS = 1;
+
+    private final Consumer<List<Task>> sink;
+    private final long leadMinutes;
+    private final Clock clock;
+    private final TimingWheel<Reminder> wheel;
+    private final IdentityHashMap<Task, Reminder> pending = new IdentityHashMap<>();
+    private ScheduledExecutorService ticker;
+
+    private static class Reminder {
+        private final Task task;
+        private boolean isCancelled;
+
+        Reminder(Task task) {
+            this.task = task;
+        }
+    }
+
+    /**
+     * Constructs a ReminderScheduler that uses the system clock.
+     *
+     * @param sink Receives the Tasks whose reminders have come up. It is called on the scheduler's thread.
+     * @param leadMinutes How many minutes before a Deadline or the start of an Event to remind the user.
+     */
+    public ReminderScheduler(Consumer<List<Task>> sink, long leadMinutes) {
+        this(sink, leadMinutes, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a ReminderScheduler that reads the time from the given clock.
+     *
+     * @param sink Receives the Tasks whose reminders have come up.
+     * @param leadMinutes How many minutes before a Deadline or the start of an Event to remind the user.
+     * @param clock The clock to read the current time from.
+     */
+    public ReminderScheduler(Consumer<List<Task>> sink, long leadMinutes, Clock clock) {
+        this.sink = sink;
+        this.leadMinutes = leadMinutes;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(getCurrentMinute());
+    }
+
+    /**
+     * Schedules reminders for all the given Tasks.
+     *
+     * @param tasks The Tasks to remind the user of.
+     */
+    public synchronized void scheduleAll(List<Task> tasks) {
+        long now = getCurrentMinute();
+        for (Task task : tasks) {
+            schedule(task, now);
+        }
+    }
+
+    /**
+     * Starts moving the wheel forward once a minute on a background daemon thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gojou-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, 0, MINUTES_BETWEEN_TICKS, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops the background thread. Reminders that have not come up yet are kept.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Hands the Tasks whose reminders have come up by now to the sink.
+     * Called by the background thread, but can also be called directly.
+     */
+    public void tick() {
+        List<Task> dueTasks = new ArrayList<>();
+        synchronized (this) {
+            for (Reminder reminder : wheel.advance(getCurrentMinute())) {
+                pending.remove(reminder.task);
+                if (!reminder.isCancelled && !reminder.task.isCompleted()) {
+                    dueTasks.add(reminder.task);
+                }
+            }
+        }
+        if (!dueTasks.isEmpty()) {
+            sink.accept(dueTasks);
+        }
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        schedule(task, getCurrentMinute());
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        Reminder reminder = pending.remove(task);
+        if (reminder != null) {
+            reminder.isCancelled = true;
+        }
+    }
+
+    @Override
+    public synchronized void taskUnmarked(Task task) {
+        schedule(task, getCurrentMinute());
+    }
+
+    private void schedule(Task task, long now) {
+        LocalDateTime time = getTime(task);
+        if (time == null || task.isCompleted() || pending.containsKey(task)) {
+            return;
+        }
+        long minute = Parser.toEpochMinutes(time);
+        // Tasks that are already overdue or under way get no reminder, but those due soon are reminded of right away
+        if (minute <= now) {
+            return;
+        }
+        Reminder reminder = new Reminder(task);
+        pending.put(task, reminder);
+        wheel.schedule(reminder, minute - leadMinutes);
+    }
+
+    private LocalDateTime getTime(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            return ((Event) task).getStartTime();
+        } else {
+            return null;
+        }
+    }
+
+    private long getCurrentMinute() {
+        return Parser.toEpochMinutes(LocalDateTime.now(clock));
+    }
+}
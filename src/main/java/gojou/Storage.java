@@ -1,23 +1,95 @@
 package gojou;
 
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
-import gojou.task.Priority;
+import gojou.metrics.CommandMetrics;
+import gojou.metrics.StorageEvent;
 import gojou.task.Task;
+import gojou.task.TaskList;
 
 /**
  * Handles loading tasks from a file and saving tasks to a file.
+ * Individual changes are appended to a journal next to the snapshot file, which is replayed on load
+ * and folded back into the snapshot in the background once it grows too large.
+ * Changes made within a few milliseconds of each other are written to the journal together, and how often
+ * they are forced onto the disk is set by a {@link DurabilityPolicy}. Call {@link #flush()} before exiting so
+ * that no change is left waiting.
+ * The time callers spend in Storage and the bytes it writes are reported to {@link CommandMetrics}, and loading,
+ * saving and compacting the file commit a {@link StorageEvent} if a flight recording has turned it on.
  */
 public class Storage {
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_SUFFIX = ".journal.old";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long MAX_JOURNAL_BYTES = 4L * 1024 * 1024;
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 64;
+    private static final double MAX_RECORDS_PER_TASK = 0.5;
+    private static final long DEFAULT_PARALLEL_LOAD_THRESHOLD = 8L * 1024 * 1024;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int WRITE_CHUNK_CHARS = 8192;
+    private static final long DEFAULT_COMMIT_WINDOW_MILLIS = 5;
+    private static final long SYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final CommandMetrics METRICS = CommandMetrics.getInstance();
+
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gojou-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ScheduledExecutorService COMMITTER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gojou-journal-committer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private String filePath;
+    private Path snapshotPath;
+    private Path journalPath;
+    private Path compactingPath;
+    private Path tempPath;
+    private FileChannel journalChannel;
+    private StringBuilder pendingRecords = new StringBuilder();
+    private ScheduledFuture<?> pendingCommit;
+    private ScheduledFuture<?> pendingSync;
+    private boolean hasUnsyncedRecords;
+    private long lastSyncNanos;
+    private IOException commitError;
+    private volatile DurabilityPolicy durabilityPolicy;
+    private long commitWindowMillis = DEFAULT_COMMIT_WINDOW_MILLIS;
+    private long journalBytes;
+    private int journalRecords;
+    private Future<?> compaction;
+    private boolean isBinary;
+    private boolean hasTornRecord;
+    private TaskRecordParser recordParser = new TaskRecordParser();
+    private long parallelLoadThreshold = DEFAULT_PARALLEL_LOAD_THRESHOLD;
 
     /**
      * Constructs a Storage object with the specified file path.
@@ -28,31 +100,247 @@ public class Storage {
         assert filePath != null : "File path should not be null";
         assert !filePath.isEmpty() : "File path should not be empty";
         this.filePath = filePath;
+        this.snapshotPath = Paths.get(filePath);
+        this.journalPath = Paths.get(filePath + JOURNAL_SUFFIX);
+        this.compactingPath = Paths.get(filePath + COMPACTING_SUFFIX);
+        this.tempPath = Paths.get(filePath + TEMP_SUFFIX);
+        this.durabilityPolicy = readDurabilityPolicy();
+        this.lastSyncNanos = System.nanoTime() - SYNC_INTERVAL_NANOS;
+    }
+
+    /**
+     * Reads the durability policy from the "gojou.durability" system property, which is INTERVAL if not set.
+     */
+    private static DurabilityPolicy readDurabilityPolicy() {
+        String name = System.getProperty("gojou.durability", DurabilityPolicy.INTERVAL.name());
+        try {
+            return DurabilityPolicy.valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return DurabilityPolicy.INTERVAL;
+        }
+    }
+
+    /**
+     * Sets how often changes written to the journal are forced onto the disk.
+     *
+     * @param durabilityPolicy The durability policy to use from now on.
+     */
+    public synchronized void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
     }
 
     /**
-     * Loads tasks from the file specified by the file path.
+     * Sets how long a change waits for later ones before they are all written to the journal together.
+     * A longer window writes less often, at the cost of losing more changes if the app is killed; {@link #flush()}
+     * still writes everything at once.
+     *
+     * @param millis The time a change waits in milliseconds, 5 by default.
+     */
+    public synchronized void setCommitWindow(long millis) {
+        this.commitWindowMillis = millis;
+    }
+
+    /**
+     * Loads tasks from the file specified by the file path, then replays any changes recorded in the journal
+     * since the file was last rewritten.
      *
      * @return An ArrayList of tasks read from the file.
      * @throws FileNotFoundException If the file specified by the file path does not exist.
      * @throws GojouException If there is an issue converting text in the file into a Task object,
-     *                       likely due to incorrect formatting in the file.
+     *                       likely due to incorrect formatting in the file. The message gives the line number.
      */
     public ArrayList<Task> load() throws GojouException, java.io.IOException {
-        List<String> lines = readFileIntoList();
-        ArrayList<Task> list = new ArrayList<>();
+        TaskList tasks = new TaskList(new ArrayList<>());
+        load(tasks, taskCount -> { });
+        return tasks.toArrayList();
+    }
+
+    /**
+     * Loads tasks from the file into the given TaskList a batch at a time, then replays any changes recorded in
+     * the journal since the file was last rewritten. Other threads can read the TaskList in the meantime and see
+     * the tasks loaded so far.
+     *
+     * @param tasks The TaskList to add the tasks to.
+     * @param onProgress Told the number of tasks in the TaskList after each batch, on the loading thread.
+     * @throws GojouException If there is an issue converting text in the file into a Task object,
+     *                       likely due to incorrect formatting in the file. The message gives the line number.
+     * @throws IOException If there are issues reading the file.
+     */
+    public void load(TaskList tasks, IntConsumer onProgress) throws GojouException, IOException {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        boolean hasInterruptedCompaction = recoverInterruptedCompaction();
+        Path path = prepareFile();
+
+        // Fills the TaskList from the stored list of tasks such that user can retrieve
+        // previously stored task information. The file is saved back in the format it was found in.
+        this.isBinary = BinaryTaskFormat.isBinary(path);
+        readSnapshot(path, batch -> {
+            tasks.insertAll(batch);
+            onProgress.accept(tasks.getSize());
+        });
+
+        replayJournal(compactingPath, tasks);
+        this.journalRecords = replayJournal(journalPath, tasks);
+        this.journalBytes = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        long journalBytesRead = journalBytes;
+
+        // Fold the leftovers of an unfinished compaction or write into a fresh snapshot straight away
+        if (hasInterruptedCompaction || hasTornRecord) {
+            saveSnapshot(tasks.toArrayList());
+        }
+        commitEvent(event, "load", tasks.getSize(), journalBytesRead);
+    }
+
+    /**
+     * Commits the flight recorder event of reading or rewriting the task file, filling it in only if a recording
+     * wants it. The bytes are the size of the snapshot file plus the given journal bytes.
+     */
+    private void commitEvent(StorageEvent event, String operation, int taskCount, long journalBytesRead)
+            throws IOException {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setTaskCount(taskCount);
+            event.setBytes(Files.size(snapshotPath) + journalBytesRead);
+            event.commit();
+        }
+    }
+
+    private void readSnapshot(Path path, Consumer<List<Task>> sink) throws GojouException, IOException {
+        if (BinaryTaskFormat.isBinary(path)) {
+            BinaryTaskFormat.read(path, LOAD_BATCH_SIZE, sink);
+        } else if (Files.size(path) >= parallelLoadThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            new ParallelTaskLoader(ForkJoinPool.commonPool()).load(path, sink);
+        } else {
+            readTasks(path, sink);
+        }
+    }
+
+    private void readTasks(Path path, Consumer<List<Task>> sink) throws GojouException, IOException {
+        ArrayList<Task> batch = new ArrayList<>();
+        try (TaskFileReader reader = new TaskFileReader(path)) {
+            try {
+                Task task;
+                while ((task = reader.next()) != null) {
+                    batch.add(task);
+                    if (batch.size() == LOAD_BATCH_SIZE) {
+                        sink.accept(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+            } catch (GojouException | DateTimeParseException e) {
+                throw new GojouException("Line " + reader.getLineNumber() + ": " + e.getMessage());
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    /**
+     * Sets the file size from which the task file is parsed in chunks across all cores on load.
+     *
+     * @param bytes The smallest file size in bytes that is loaded in parallel.
+     */
+    public void setParallelLoadThreshold(long bytes) {
+        this.parallelLoadThreshold = bytes;
+    }
+
+    /**
+     * Cleans up after a compaction that was cut short, e.g. by the app being killed.
+     * A leftover temporary snapshot is only trusted once the journal it replaces has been deleted.
+     *
+     * @return True if the journal of the unfinished compaction still has to be replayed.
+     * @throws IOException If the leftover files cannot be moved or deleted.
+     */
+    private boolean recoverInterruptedCompaction() throws IOException {
+        boolean hasCompactingJournal = Files.exists(compactingPath);
+        if (Files.exists(tempPath)) {
+            if (hasCompactingJournal) {
+                Files.delete(tempPath);
+            } else {
+                Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        return hasCompactingJournal;
+    }
 
-        // Creates an ArrayList of Tasks based on the stored list of tasks such that user can retrieve
-        // previously stored task information
-        for (int i = 0; i < lines.size(); i++) {
-            Task task = createTask(lines.get(i));
-            list.add(task);
+    /**
+     * Applies the changes recorded in a journal file to the list of tasks, in the order they were made.
+     *
+     * @param journal The journal file to replay.
+     * @param tasks The list of tasks to apply the changes to.
+     * @return The number of records replayed.
+     * @throws GojouException If a record in the middle of the journal cannot be understood.
+     * @throws IOException If there are issues reading the journal.
+     */
+    private int replayJournal(Path journal, TaskList tasks) throws GojouException, IOException {
+        if (!Files.exists(journal)) {
+            return 0;
         }
 
-        return list;
+        List<String> records = Files.readAllLines(journal);
+        // A final record without a line ending is a write that was cut short, so it was never acknowledged
+        if (!records.isEmpty() && !endsWithLineBreak(journal)) {
+            records.remove(records.size() - 1);
+            hasTornRecord = true;
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                replayRecord(records.get(i), tasks);
+            } catch (GojouException | RuntimeException e) {
+                throw new GojouException("Hmm, " + journal + " looks tampered with at line " + (i + 1)
+                        + ". Even I can't read that!");
+            }
+        }
+        return records.size();
+    }
+
+    private boolean endsWithLineBreak(Path file) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1);
+            channel.read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
     }
 
-    private List<String> readFileIntoList() throws java.io.IOException {
+    private void replayRecord(String record, TaskList tasks) throws GojouException {
+        int separator = record.indexOf(' ');
+        String operation = record.substring(0, separator);
+        String argument = record.substring(separator + 1);
+
+        switch (operation) {
+        case "add":
+            // Goes through the same priority buckets as TaskList.add so that task numbers in later records line up
+            tasks.insert(createTask(argument));
+            break;
+        case "delete":
+            int[] deleted = Parser.parseTaskNumbers(argument, tasks.getSize());
+            // Removes the largest numbers first so that the smaller ones still point at the same tasks
+            for (int i = deleted.length - 1; i >= 0; i--) {
+                tasks.remove(deleted[i]);
+            }
+            break;
+        case "mark":
+            for (int taskNumber : Parser.parseTaskNumbers(argument, tasks.getSize())) {
+                tasks.get(taskNumber).markAsDone();
+            }
+            break;
+        case "unmark":
+            for (int taskNumber : Parser.parseTaskNumbers(argument, tasks.getSize())) {
+                tasks.get(taskNumber).markAsUndone();
+            }
+            break;
+        default:
+            throw new GojouException("Unknown journal record: " + record);
+        }
+    }
+
+    private Path prepareFile() throws java.io.IOException {
         Path path = Paths.get(filePath);
         Path parentDir = path.getParent();
 
@@ -66,56 +354,437 @@ public class Storage {
             Files.createFile(path);
         }
 
-        return Files.readAllLines(path);
+        return path;
     }
 
     private Task createTask(String lineOfWords) throws GojouException {
-        assert !lineOfWords.isEmpty() : "Empty line in Gojou.txt";
-
-        Scanner lineScanner = new Scanner(lineOfWords);
-        String category = lineScanner.next();
-        ArrayList<String> arrOfStr = new ArrayList<>();
-
-        return getTask(category, lineScanner, arrOfStr);
-    }
-
-    private Task getTask(String category, Scanner lineScanner, ArrayList<String> arrOfStr) throws GojouException {
-        switch (category) {
-        case "[T][":
-            lineScanner.next();
-            return Parser.makeTodoTask(lineScanner, arrOfStr, false);
-        case "[T][X]":
-            return Parser.makeTodoTask(lineScanner, arrOfStr, true);
-        case "[D][":
-            lineScanner.next();
-            return Parser.makeDeadlineTask(lineScanner, arrOfStr, false);
-        case "[D][X]":
-            return Parser.makeDeadlineTask(lineScanner, arrOfStr, true);
-        case "[E][":
-            lineScanner.next();
-            return Parser.makeEventTask(lineScanner, arrOfStr, false);
-        case "[E][X]":
-            return Parser.makeEventTask(lineScanner, arrOfStr, true);
+        assert !lineOfWords.isBlank() : "Empty task record";
+
+        return recordParser.parse(lineOfWords);
+    }
+
+    /**
+     * Records that a Task was added to the list.
+     *
+     * @param task The Task that was added.
+     * @param tasks The list of tasks after the change, used if the journal has to be compacted.
+     * @throws IOException If there are issues writing to the journal.
+     */
+    public void recordAdd(Task task, TaskList tasks) throws IOException {
+        appendToJournal("add " + task.toStorageString(), tasks);
+    }
+
+    /**
+     * Records that a Task was deleted from the list.
+     *
+     * @param taskNumber The number the deleted Task had in the list.
+     * @param tasks The list of tasks after the change, used if the journal has to be compacted.
+     * @throws IOException If there are issues writing to the journal.
+     */
+    public void recordDelete(int taskNumber, TaskList tasks) throws IOException {
+        appendToJournal("delete " + taskNumber, tasks);
+    }
+
+    /**
+     * Records that a Task was marked as done or not done.
+     *
+     * @param taskNumber The number of the Task in the list.
+     * @param isDone True if the Task was marked as done, false if it was unmarked.
+     * @param tasks The list of tasks after the change, used if the journal has to be compacted.
+     * @throws IOException If there are issues writing to the journal.
+     */
+    public void recordMark(int taskNumber, boolean isDone, TaskList tasks) throws IOException {
+        appendToJournal((isDone ? "mark " : "unmark ") + taskNumber, tasks);
+    }
+
+    /**
+     * Records that several Tasks were deleted from the list at once, as a single record.
+     *
+     * @param taskNumbers The numbers the deleted Tasks had in the list, in ascending order.
+     * @param tasks The list of tasks after the change, used if the journal has to be compacted.
+     * @throws IOException If there are issues writing to the journal.
+     */
+    public void recordDelete(int[] taskNumbers, TaskList tasks) throws IOException {
+        appendToJournal("delete " + toRanges(taskNumbers), tasks);
+    }
+
+    /**
+     * Records that several Tasks were marked as done or not done at once, as a single record.
+     *
+     * @param taskNumbers The numbers of the Tasks in the list, in ascending order.
+     * @param isDone True if the Tasks were marked as done, false if they were unmarked.
+     * @param tasks The list of tasks after the change, used if the journal has to be compacted.
+     * @throws IOException If there are issues writing to the journal.
+     */
+    public void recordMark(int[] taskNumbers, boolean isDone, TaskList tasks) throws IOException {
+        appendToJournal((isDone ? "mark " : "unmark ") + toRanges(taskNumbers), tasks);
+    }
+
+    /**
+     * Writes ascending task numbers in the form read by {@link Parser#parseTaskNumbers(String, int)},
+     * joining runs of consecutive numbers into ranges.
+     */
+    private static String toRanges(int[] taskNumbers) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < taskNumbers.length) {
+            int end = i;
+            while (end + 1 < taskNumbers.length && taskNumbers[end + 1] == taskNumbers[end] + 1) {
+                end++;
+            }
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(taskNumbers[i]);
+            if (end > i) {
+                sb.append('-').append(taskNumbers[end]);
+            }
+            i = end + 1;
+        }
+        return sb.toString();
+    }
+
+    private synchronized void appendToJournal(String record, TaskList tasks) throws IOException {
+        long start = System.nanoTime();
+        try {
+            addToJournal(record, tasks);
+        } finally {
+            METRICS.addPersistNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void addToJournal(String record, TaskList tasks) throws IOException {
+        throwCommitError();
+        pendingRecords.append(record);
+        pendingRecords.append(System.lineSeparator());
+        journalBytes += getUtf8Length(record) + System.lineSeparator().length();
+        journalRecords++;
+
+        // Records that arrive before the window closes are written and synced together
+        if (pendingCommit == null) {
+            pendingCommit = COMMITTER.schedule(this::commitInBackground, commitWindowMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (isJournalTooLarge(tasks.getSize())) {
+            compact(tasks.toArrayList());
+        }
+    }
+
+    /**
+     * Returns the number of bytes the text takes up in UTF-8, which the journal is written in, without encoding it.
+     * A surrogate without its other half is written as a single replacement byte.
+     */
+    static int getUtf8Length(CharSequence text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the changes waiting to be grouped with later ones to the journal straight away, and forces the
+     * journal onto the disk unless the durability policy is NEVER.
+     *
+     * @throws IOException If there are issues writing to the journal, now or in an earlier background write.
+     */
+    public synchronized void flush() throws IOException {
+        long start = System.nanoTime();
+        try {
+            flushJournal();
+        } finally {
+            METRICS.addPersistNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void flushJournal() throws IOException {
+        commit();
+        if (durabilityPolicy != DurabilityPolicy.NEVER) {
+            sync();
+        }
+        throwCommitError();
+    }
+
+    private synchronized void commitInBackground() {
+        try {
+            commit();
+        } catch (IOException e) {
+            commitError = e;
+        }
+    }
+
+    private synchronized void syncInBackground() {
+        try {
+            sync();
+        } catch (IOException e) {
+            commitError = e;
+        }
+    }
+
+    private void throwCommitError() throws IOException {
+        if (commitError != null) {
+            IOException e = commitError;
+            commitError = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all waiting records to the journal in one go, then syncs it as the durability policy asks.
+     */
+    private void commit() throws IOException {
+        if (pendingCommit != null) {
+            pendingCommit.cancel(false);
+            pendingCommit = null;
+        }
+        if (pendingRecords.length() == 0) {
+            return;
+        }
+
+        if (journalChannel == null) {
+            journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(pendingRecords));
+        METRICS.addBytesWritten(bytes.remaining());
+        while (bytes.hasRemaining()) {
+            journalChannel.write(bytes);
+        }
+        pendingRecords.setLength(0);
+        hasUnsyncedRecords = true;
+
+        switch (durabilityPolicy) {
+        case PER_BATCH:
+            sync();
+            break;
+        case INTERVAL:
+            syncIfDue();
+            break;
         default:
-            return new Task("", false, Priority.NONE);
+            // The operating system decides when the journal reaches the disk
+            break;
         }
     }
 
     /**
-     * Saves tasks to the file specified by the file path.
+     * Syncs the journal if the last sync was at least a second ago, or else makes sure it is synced once the
+     * second is up.
+     */
+    private void syncIfDue() throws IOException {
+        long nanosSinceSync = System.nanoTime() - lastSyncNanos;
+        if (nanosSinceSync >= SYNC_INTERVAL_NANOS) {
+            sync();
+        } else if (pendingSync == null) {
+            pendingSync = COMMITTER.schedule(this::syncInBackground, SYNC_INTERVAL_NANOS - nanosSinceSync,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void sync() throws IOException {
+        if (pendingSync != null) {
+            pendingSync.cancel(false);
+            pendingSync = null;
+        }
+        if (journalChannel != null && hasUnsyncedRecords) {
+            journalChannel.force(false);
+        }
+        hasUnsyncedRecords = false;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private boolean isJournalTooLarge(int taskCount) {
+        boolean isOverSizeLimit = journalBytes > MAX_JOURNAL_BYTES;
+        boolean isOverRatio = journalRecords >= MIN_RECORDS_BEFORE_COMPACTION
+                && journalRecords > taskCount * MAX_RECORDS_PER_TASK;
+        return isOverSizeLimit || isOverRatio;
+    }
+
+    /**
+     * Moves the current journal aside and rewrites the snapshot from the list in the background.
+     * Changes made in the meantime go to a fresh journal, so nothing waits for the rewrite to finish.
+     */
+    private void compact(ArrayList<Task> list) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+        // A previous compaction failed, so its journal is still around and has to be folded in right away
+        if (Files.exists(compactingPath)) {
+            saveSnapshot(list);
+            return;
+        }
+
+        // Until the new snapshot is in place, the journal moved aside is the only copy of its changes on disk
+        flushJournal();
+        closeJournal();
+        Files.move(journalPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+
+        compaction = COMPACTOR.submit(() -> {
+            StorageEvent event = new StorageEvent();
+            event.begin();
+            writeSnapshot(list);
+            Files.delete(compactingPath);
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            commitEvent(event, "compact", list.size(), 0);
+            return null;
+        });
+    }
+
+    /**
+     * Closes the journal, dropping any records still waiting to be written. Callers either write them out first
+     * or save a snapshot that already holds their changes.
+     */
+    private void closeJournal() throws IOException {
+        if (pendingCommit != null) {
+            pendingCommit.cancel(false);
+            pendingCommit = null;
+        }
+        if (pendingSync != null) {
+            pendingSync.cancel(false);
+            pendingSync = null;
+        }
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+        pendingRecords.setLength(0);
+        hasUnsyncedRecords = false;
+        journalBytes = 0;
+        journalRecords = 0;
+    }
+
+    /**
+     * Saves tasks to the file specified by the file path, replacing the file and clearing the journal.
      *
      * @param list An ArrayList of Tasks to be written to the file.
      * @throws IOException If there are issues writing text to the file.
      */
-    public void save(ArrayList<Task> list) throws IOException {
-        FileWriter fw = new FileWriter(filePath);
-        for (int i = 0; i < list.size() - 1; i++) {
-            fw.write(list.get(i).toStorageString() + System.lineSeparator());
+    public synchronized void save(ArrayList<Task> list) throws IOException {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            saveSnapshot(list);
+            commitEvent(event, "save", list.size(), 0);
+        } finally {
+            METRICS.addPersistNanos(System.nanoTime() - start);
         }
-        if (!list.isEmpty()) {
-            fw.write(list.get(list.size() - 1).toStorageString());
+    }
+
+    private void saveSnapshot(ArrayList<Task> list) throws IOException {
+        awaitCompaction();
+        writeSnapshot(list);
+        closeJournal();
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(compactingPath);
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // The journal of the failed compaction is still on disk and gets cleared by the caller
         }
-        fw.close();
     }
-}
 
+    private void writeSnapshot(List<Task> list) throws IOException {
+        if (isBinary) {
+            BinaryTaskFormat.write(list, tempPath);
+        } else {
+            writeText(list, tempPath);
+        }
+        METRICS.addBytesWritten(Files.size(tempPath));
+        // The snapshot replaces the journal, so it has to be on disk before the journal goes
+        if (durabilityPolicy != DurabilityPolicy.NEVER) {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private void writeText(List<Task> list, Path path) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path);
+        // Tasks are rendered into one builder and handed to the writer a chunk at a time
+        StringBuilder sb = new StringBuilder(WRITE_CHUNK_CHARS * 2);
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                sb.append(System.lineSeparator());
+            }
+            list.get(i).appendStorageTo(sb);
+            if (sb.length() >= WRITE_CHUNK_CHARS) {
+                writer.append(sb);
+                sb.setLength(0);
+            }
+        }
+        writer.append(sb);
+        writer.close();
+    }
+
+    /**
+     * Writes tasks to another file in the text or the binary format.
+     *
+     * @param list The tasks to write.
+     * @param path The path of the file to write to.
+     * @param isBinary True to use the binary format, false to use the text format.
+     * @throws IOException If there are issues writing the file.
+     */
+    public void exportTasks(List<Task> list, Path path, boolean isBinary) throws IOException {
+        long start = System.nanoTime();
+        try {
+            if (isBinary) {
+                BinaryTaskFormat.write(list, path);
+            } else {
+                writeText(list, path);
+            }
+            METRICS.addBytesWritten(Files.size(path));
+        } finally {
+            METRICS.addPersistNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Switches the format of the task file and rewrites it in that format.
+     *
+     * @param list The current list of tasks.
+     * @param isBinary True to use the binary format, false to use the text format.
+     * @throws IOException If there are issues rewriting the file.
+     */
+    public synchronized void convert(ArrayList<Task> list, boolean isBinary) throws IOException {
+        long start = System.nanoTime();
+        try {
+            awaitCompaction();
+            this.isBinary = isBinary;
+            saveSnapshot(list);
+        } finally {
+            METRICS.addPersistNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the path of the file where tasks are stored.
+     *
+     * @return The path of the task file.
+     */
+    public Path getPath() {
+        return snapshotPath;
+    }
+}
@@ -0,0 +1,118 @@
+package gojou;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import gojou.task.Task;
+
+/**
+ * Reads tasks from a task file one at a time, without holding the file or its lines in memory.
+ * The file is read through a fixed-size buffer and each line is handed to a {@link TaskRecordParser}
+ * while it is still in the buffer.
+ */
+public class TaskFileReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final TaskRecordParser parser = new TaskRecordParser();
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private int lineStart;
+    private int lineNumber;
+    private boolean isEndOfFile;
+
+    /**
+     * Opens the task file at the given path for reading.
+     *
+     * @param path The path of the task file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public TaskFileReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer.flip();
+    }
+
+    /**
+     * Reads the next task from the file, skipping blank lines.
+     *
+     * @return The next Task, or null if the end of the file has been reached.
+     * @throws GojouException If a line is not a valid task record.
+     * @throws IOException If there are issues reading the file.
+     */
+    public Task next() throws GojouException, IOException {
+        while (true) {
+            int lineEnd = findLineEnd();
+            if (lineEnd == -1) {
+                return null;
+            }
+
+            lineNumber++;
+            int start = lineStart;
+            lineStart = lineEnd + 1;
+            Task task = parser.parse(buffer.array(), start, lineEnd);
+            if (task != null) {
+                return task;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the line that the last task was read from, starting from 1.
+     *
+     * @return The current line number.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the index of the line break ending the current line, reading more of the file as needed.
+     * The last line of the file does not need a line break, so the end of the data is returned instead.
+     */
+    private int findLineEnd() throws IOException {
+        int searchFrom = lineStart;
+        while (true) {
+            byte[] bytes = buffer.array();
+            for (int i = searchFrom; i < buffer.limit(); i++) {
+                if (bytes[i] == '\n') {
+                    return i;
+                }
+            }
+
+            if (isEndOfFile) {
+                return lineStart < buffer.limit() ? buffer.limit() : -1;
+            }
+            searchFrom = buffer.limit() - lineStart;
+            fill();
+        }
+    }
+
+    /**
+     * Moves the unfinished line to the front of the buffer and reads more of the file after it.
+     * The buffer is doubled if a single line does not fit.
+     */
+    private void fill() throws IOException {
+        buffer.position(lineStart);
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        lineStart = 0;
+
+        if (channel.read(buffer) == -1) {
+            isEndOfFile = true;
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,239 @@
+package gojou;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Priority;
+import gojou.task.Task;
+import gojou.task.Todo;
+
+/**
+ * Reads the tasks in a file from another tool or another copy of Gojou, a batch at a time, without holding
+ * the lines of the file in memory.
+ * The file can be a binary snapshot, a text file in the same form as Gojou's save file, or a CSV file ending
+ * in ".csv". A line that cannot be read is skipped and reported instead of stopping the import.
+ *
+ * <p>Each row of a CSV file has the columns {@code type,description,done,priority,date,end}, where the type is
+ * todo, deadline or event, done is yes or no, the priority is high, medium, low or left empty, and the dates
+ * are in "yyyy-MM-dd HHmm" format. The date is the deadline of a deadline or the start of an event. Columns
+ * that are not needed can be left out at the end of a row, and a first row starting with "type" is skipped.
+ * Fields containing commas can be quoted, with quotes inside them written twice.
+ */
+public class TaskImporter {
+    private static final int BATCH_SIZE = 10_000;
+    private static final int MAX_REPORTED_ERRORS = 10;
+    private static final int CSV_COLUMNS = 6;
+
+    private final ArrayList<String> errors = new ArrayList<>();
+    private int errorCount;
+
+    /**
+     * Reads the tasks in the file and hands them to the sink in batches, in the order they appear in the file.
+     *
+     * @param path The path of the file to import.
+     * @param sink Receives each batch of tasks.
+     * @throws GojouException If the file is a binary snapshot that cannot be read.
+     * @throws IOException If there are issues reading the file.
+     */
+    public void read(Path path, Consumer<List<Task>> sink) throws GojouException, IOException {
+        if (BinaryTaskFormat.isBinary(path)) {
+            BinaryTaskFormat.read(path, BATCH_SIZE, sink);
+        } else if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            readCsv(path, sink);
+        } else {
+            readTaskFile(path, sink);
+        }
+    }
+
+    /**
+     * Returns the number of lines that were skipped because they could not be read.
+     *
+     * @return The number of skipped lines.
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns why the first few skipped lines could not be read, each starting with its line number.
+     *
+     * @return Up to the first ten errors.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    private void readTaskFile(Path path, Consumer<List<Task>> sink) throws IOException {
+        ArrayList<Task> batch = new ArrayList<>();
+        try (TaskFileReader reader = new TaskFileReader(path)) {
+            while (true) {
+                Task task;
+                try {
+                    task = reader.next();
+                } catch (GojouException | DateTimeParseException e) {
+                    // The reader has already moved past the bad line, so the next call carries on after it
+                    addError(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (task == null) {
+                    break;
+                }
+                // Lines that are not tasks at all are read as nameless plain tasks, which Gojou never saves
+                if (!(task instanceof Todo || task instanceof Deadline || task instanceof Event)) {
+                    addError(reader.getLineNumber(), "This is not a todo, deadline or event.");
+                    continue;
+                }
+                batch = addToBatch(batch, task, sink);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    private void readCsv(Path path, Consumer<List<Task>> sink) throws IOException {
+        ArrayList<Task> batch = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    List<String> fields = splitCsvLine(line);
+                    if (lineNumber == 1 && fields.get(0).trim().equalsIgnoreCase("type")) {
+                        continue;
+                    }
+                    batch = addToBatch(batch, makeTask(fields), sink);
+                } catch (GojouException | DateTimeParseException e) {
+                    addError(lineNumber, e.getMessage());
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    private ArrayList<Task> addToBatch(ArrayList<Task> batch, Task task, Consumer<List<Task>> sink) {
+        batch.add(task);
+        if (batch.size() < BATCH_SIZE) {
+            return batch;
+        }
+        sink.accept(batch);
+        return new ArrayList<>();
+    }
+
+    private void addError(int lineNumber, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Line " + lineNumber + ": " + message);
+        }
+    }
+
+    private static List<String> splitCsvLine(String line) throws GojouException {
+        ArrayList<String> fields = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new GojouException("A quoted field is never closed.");
+        }
+        fields.add(field.toString());
+        if (fields.size() > CSV_COLUMNS) {
+            throw new GojouException("There are more than " + CSV_COLUMNS + " columns.");
+        }
+        while (fields.size() < CSV_COLUMNS) {
+            fields.add("");
+        }
+        return fields;
+    }
+
+    private static Task makeTask(List<String> fields) throws GojouException {
+        String description = fields.get(1).trim();
+        if (description.isEmpty()) {
+            throw new GojouException("The task has no description.");
+        }
+        boolean isDone = readDone(fields.get(2).trim());
+        Priority priority = readPriority(fields.get(3).trim());
+        String date = fields.get(4).trim();
+        String end = fields.get(5).trim();
+
+        switch (fields.get(0).trim().toLowerCase(Locale.ROOT)) {
+        case "todo", "t":
+            return new Todo(description, isDone, priority);
+        case "deadline", "d":
+            checkDateProvided(date, "deadline");
+            return new Deadline(description, isDone, priority, Parser.convertDateTime(date));
+        case "event", "e":
+            checkDateProvided(date, "start time");
+            checkDateProvided(end, "end time");
+            return new Event(description, isDone, priority, Parser.convertDateTime(date),
+                    Parser.convertDateTime(end));
+        default:
+            throw new GojouException("The type should be todo, deadline or event.");
+        }
+    }
+
+    private static boolean readDone(String done) throws GojouException {
+        switch (done.toLowerCase(Locale.ROOT)) {
+        case "", "no", "false":
+            return false;
+        case "yes", "true", "x":
+            return true;
+        default:
+            throw new GojouException("Done should be yes or no.");
+        }
+    }
+
+    private static Priority readPriority(String priority) throws GojouException {
+        switch (priority.toLowerCase(Locale.ROOT)) {
+        case "", "none":
+            return Priority.NONE;
+        case "high":
+            return Priority.HIGH;
+        case "medium":
+            return Priority.MEDIUM;
+        case "low":
+            return Priority.LOW;
+        default:
+            throw new GojouException("The priority should be high, medium, low or left empty.");
+        }
+    }
+
+    private static void checkDateProvided(String date, String name) throws GojouException {
+        if (date.isEmpty()) {
+            throw new GojouException("The " + name + " is missing.");
+        }
+    }
+}
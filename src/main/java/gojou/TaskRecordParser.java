@@ -0,0 +1,271 @@
+package gojou;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Priority;
+import gojou.task.Task;
+import gojou.task.Todo;
+
+/**
+ * Converts a line of the task file back into a Task by working directly on its UTF-8 bytes.
+ * Words are tracked as offsets into the line, so Strings are only created for the task name and dates.
+ * It accepts the same records and raises the same errors as the {@code Parser.make...Task} methods.
+ * A parser reuses its buffers between lines, so each thread needs its own instance.
+ */
+public class TaskRecordParser {
+    private static final byte[] TODO_UNDONE = bytes("[T][");
+    private static final byte[] TODO_DONE = bytes("[T][X]");
+    private static final byte[] DEADLINE_UNDONE = bytes("[D][");
+    private static final byte[] DEADLINE_DONE = bytes("[D][X]");
+    private static final byte[] EVENT_UNDONE = bytes("[E][");
+    private static final byte[] EVENT_DONE = bytes("[E][X]");
+    private static final byte[] BY = bytes("/by");
+    private static final byte[] FROM = bytes("/from");
+    private static final byte[] TO = bytes("/to");
+    private static final byte[] HIGH = bytes("high");
+    private static final byte[] MEDIUM = bytes("medium");
+    private static final byte[] LOW = bytes("low");
+
+    private byte[] line;
+    private int[] wordStarts = new int[16];
+    private int[] wordEnds = new int[16];
+    private int wordCount;
+    private int[] selectedWords = new int[16];
+    private byte[] joined = new byte[128];
+
+    /**
+     * Converts the bytes of a single line, excluding the line break, into a Task.
+     *
+     * @param buffer The bytes holding the line.
+     * @param start The index of the first byte of the line.
+     * @param end The index just past the last byte of the line.
+     * @return The Task described by the line, or null if the line is blank.
+     * @throws GojouException If the line is not a valid task record.
+     * @throws DateTimeParseException If a date in the line is not in "yyyy-MM-dd HHmm" format.
+     */
+    public Task parse(byte[] buffer, int start, int end) throws GojouException {
+        this.line = buffer;
+        splitWords(start, end);
+        if (wordCount == 0) {
+            return null;
+        }
+
+        if (isWord(0, TODO_DONE)) {
+            return makeTodoTask(1, true);
+        } else if (isWord(0, TODO_UNDONE)) {
+            return makeTodoTask(skipClosingBracket(), false);
+        } else if (isWord(0, DEADLINE_DONE)) {
+            return makeDeadlineTask(1, true);
+        } else if (isWord(0, DEADLINE_UNDONE)) {
+            return makeDeadlineTask(skipClosingBracket(), false);
+        } else if (isWord(0, EVENT_DONE)) {
+            return makeEventTask(1, true);
+        } else if (isWord(0, EVENT_UNDONE)) {
+            return makeEventTask(skipClosingBracket(), false);
+        } else {
+            return new Task("", false, Priority.NONE);
+        }
+    }
+
+    /**
+     * Converts a line of text into a Task.
+     *
+     * @param line The line to convert.
+     * @return The Task described by the line, or null if the line is blank.
+     * @throws GojouException If the line is not a valid task record.
+     */
+    public Task parse(String line) throws GojouException {
+        byte[] buffer = line.getBytes(StandardCharsets.UTF_8);
+        return parse(buffer, 0, buffer.length);
+    }
+
+    private void splitWords(int start, int end) {
+        wordCount = 0;
+        int i = start;
+        while (i < end) {
+            while (i < end && isWhitespace(line[i])) {
+                i++;
+            }
+            if (i == end) {
+                break;
+            }
+            int wordStart = i;
+            while (i < end && !isWhitespace(line[i])) {
+                i++;
+            }
+            addWord(wordStart, i);
+        }
+    }
+
+    private void addWord(int start, int end) {
+        if (wordCount == wordStarts.length) {
+            wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+            wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+            selectedWords = new int[wordCount * 2];
+        }
+        wordStarts[wordCount] = start;
+        wordEnds[wordCount] = end;
+        wordCount++;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+    }
+
+    // An unmarked task is stored as "[T][ ]", which splits into "[T][" and "]"
+    private int skipClosingBracket() throws GojouException {
+        if (wordCount < 2) {
+            throw new GojouException("Hmm, a task in the file is cut short. Even the strongest can't read "
+                    + "what isn't there!");
+        }
+        return 2;
+    }
+
+    private Task makeTodoTask(int firstWord, boolean isDone) throws GojouException {
+        Priority priority = Priority.NONE;
+        int[] description = selectedWords;
+        int descriptionLength = 0;
+
+        for (int i = firstWord; i < wordCount; i++) {
+            if (isPriority(i)) {
+                priority = readPriority(i);
+            } else {
+                description[descriptionLength++] = i;
+            }
+        }
+
+        Parser.checkIfTodoIsProvided(descriptionLength > 0);
+        return new Todo(join(description, 0, descriptionLength), isDone, priority);
+    }
+
+    private Task makeDeadlineTask(int firstWord, boolean isDone) throws GojouException {
+        Priority priority = Priority.NONE;
+        String description = "";
+        boolean hasProvidedDeadline = false;
+        int[] words = selectedWords;
+        int wordsLength = 0;
+
+        for (int i = firstWord; i < wordCount; i++) {
+            if (isPriority(i)) {
+                priority = readPriority(i);
+            } else if (isWord(i, BY)) {
+                description = join(words, 0, wordsLength);
+                wordsLength = 0;
+                hasProvidedDeadline = true;
+            } else {
+                words[wordsLength++] = i;
+            }
+        }
+
+        String deadline = join(words, 0, wordsLength);
+        Parser.checkErroneousInput(hasProvidedDeadline, deadline, description);
+
+        return new Deadline(description, isDone, priority, Parser.convertDateTime(deadline));
+    }
+
+    private Task makeEventTask(int firstWord, boolean isDone) throws GojouException {
+        Parser.checkIfTaskIsProvided(firstWord < wordCount);
+
+        Priority priority = Priority.NONE;
+        int[] words = selectedWords;
+        int wordsLength = 0;
+        int startIndex = -1;
+        int endIndex = -1;
+
+        for (int i = firstWord; i < wordCount; i++) {
+            if (isPriority(i)) {
+                priority = readPriority(i);
+                continue;
+            }
+            if (startIndex == -1 && isWord(i, FROM)) {
+                startIndex = wordsLength;
+            } else if (endIndex == -1 && isWord(i, TO)) {
+                endIndex = wordsLength;
+            }
+            words[wordsLength++] = i;
+        }
+
+        Parser.checkIfKeywordsByAndToAreProvided(startIndex, endIndex);
+
+        String description = join(words, 0, startIndex);
+        String startDate = join(words, startIndex + 1, endIndex);
+        String endDate = join(words, endIndex + 1, wordsLength);
+
+        Parser.checkIfDescriptionStartAndEndDateProvided(description, startDate, endDate);
+
+        return new Event(description, isDone, priority, Parser.convertDateTime(startDate),
+                Parser.convertDateTime(endDate));
+    }
+
+    private boolean isPriority(int word) {
+        return wordEnds[word] - wordStarts[word] >= 2 && line[wordStarts[word]] == '/'
+                && line[wordStarts[word] + 1] == '/';
+    }
+
+    private Priority readPriority(int word) throws GojouException {
+        int start = wordStarts[word] + 2;
+        int end = wordEnds[word];
+        if (matches(start, end, HIGH)) {
+            return Priority.HIGH;
+        } else if (matches(start, end, MEDIUM)) {
+            return Priority.MEDIUM;
+        } else if (matches(start, end, LOW)) {
+            return Priority.LOW;
+        }
+        // Let the Parser report the invalid priority so the message stays the same
+        return Parser.readTaskPriority(new String(line, wordStarts[word], end - wordStarts[word],
+                StandardCharsets.UTF_8));
+    }
+
+    private boolean isWord(int word, byte[] expected) {
+        return matches(wordStarts[word], wordEnds[word], expected);
+    }
+
+    private boolean matches(int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (line[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Joins the given words with single spaces, like {@code String.join(" ", words)}.
+     */
+    private String join(int[] words, int from, int to) {
+        if (from >= to) {
+            return "";
+        }
+
+        int length = to - from - 1;
+        for (int i = from; i < to; i++) {
+            length += wordEnds[words[i]] - wordStarts[words[i]];
+        }
+        if (joined.length < length) {
+            joined = new byte[Math.max(length, joined.length * 2)];
+        }
+
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                joined[position++] = ' ';
+            }
+            int wordLength = wordEnds[words[i]] - wordStarts[words[i]];
+            System.arraycopy(line, wordStarts[words[i]], joined, position, wordLength);
+            position += wordLength;
+        }
+        return new String(joined, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
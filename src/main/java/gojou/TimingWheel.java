@@ -0,0 +1,139 @@
+package gojou;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds items until a given minute, using a hierarchical timing wheel.
+ * Each level of the wheel has 64 slots, where a slot of level 0 spans one minute and a slot of each higher level
+ * spans all 64 slots of the level below it. An item is placed in the lowest level whose current lap it falls in,
+ * and moves down a level each time the wheel reaches its slot, so scheduling an item takes constant time
+ * however many items are waiting.
+ *
+ * @param <T> The type of items held by the wheel.
+ */
+class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    // Six levels span 2^36 minutes, which is over a hundred thousand years
+    private static final int LEVEL_COUNT = 6;
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>();
+    private final ArrayList<T> due = new ArrayList<>();
+    private long currentMinute;
+    private int size;
+
+    private static class Entry<T> {
+        private final T item;
+        private final long minute;
+
+        Entry(T item, long minute) {
+            this.item = item;
+            this.minute = minute;
+        }
+    }
+
+    /**
+     * Constructs an empty TimingWheel that starts at the given minute.
+     *
+     * @param currentMinute The current time in minutes since the epoch.
+     */
+    TimingWheel(long currentMinute) {
+        this.currentMinute = currentMinute;
+        for (int i = 0; i < LEVEL_COUNT * SLOT_COUNT; i++) {
+            slots.add(null);
+        }
+    }
+
+    /**
+     * Returns the number of items waiting in the wheel.
+     *
+     * @return The number of items that have not been handed out yet.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an item that is due at the given minute. Items due at or before the current minute are handed out
+     * by the next call to {@link #advance(long)}.
+     *
+     * @param item The item to hold.
+     * @param minute The minute the item is due at, in minutes since the epoch.
+     */
+    void schedule(T item, long minute) {
+        place(new Entry<>(item, minute));
+        size++;
+    }
+
+    /**
+     * Moves the wheel forward to the given minute.
+     *
+     * @param minute The current time in minutes since the epoch.
+     * @return The items that have become due, in the order their minutes come in.
+     */
+    List<T> advance(long minute) {
+        while (currentMinute < minute) {
+            currentMinute++;
+            // Slots of higher levels whose lap has just started are spread over the levels below them
+            for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+                if ((currentMinute & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            List<Entry<T>> entries = takeSlot(0, (int) (currentMinute & SLOT_MASK));
+            if (entries != null) {
+                for (Entry<T> entry : entries) {
+                    due.add(entry.item);
+                }
+            }
+        }
+
+        List<T> items = new ArrayList<>(due);
+        size -= due.size();
+        due.clear();
+        return items;
+    }
+
+    private void cascade(int level) {
+        List<Entry<T>> entries = takeSlot(level, (int) ((currentMinute >>> (SLOT_BITS * level)) & SLOT_MASK));
+        if (entries != null) {
+            for (Entry<T> entry : entries) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.minute <= currentMinute) {
+            due.add(entry.item);
+            return;
+        }
+
+        // The level is the lowest one where the entry and the current minute are in the same lap of the level above
+        int level = 0;
+        while (level < LEVEL_COUNT - 1
+                && (entry.minute >>> (SLOT_BITS * (level + 1))) != (currentMinute >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((entry.minute >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (level == LEVEL_COUNT - 1 && (entry.minute >>> (SLOT_BITS * LEVEL_COUNT))
+                != (currentMinute >>> (SLOT_BITS * LEVEL_COUNT))) {
+            // Too far ahead for the wheel, so it waits in the last slot and is placed again when that is reached
+            slot = (int) (((currentMinute >>> (SLOT_BITS * level)) - 1) & SLOT_MASK);
+        }
+
+        int index = level * SLOT_COUNT + slot;
+        List<Entry<T>> entries = slots.get(index);
+        if (entries == null) {
+            entries = new ArrayList<>();
+            slots.set(index, entries);
+        }
+        entries.add(entry);
+    }
+
+    private List<Entry<T>> takeSlot(int level, int slot) {
+        return slots.set(level * SLOT_COUNT + slot, null);
+    }
+}
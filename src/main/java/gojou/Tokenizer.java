@@ -0,0 +1,51 @@
+package gojou;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Splits a line of user input into words separated by whitespace, the same way {@link java.util.Scanner} does by
+ * default, but by stepping through the characters of the line instead of matching regular expressions.
+ * The line is never copied, and a word is only copied out of it when {@link #next()} asks for it.
+ */
+public class Tokenizer {
+    private final CharSequence line;
+    private int position;
+
+    /**
+     * Constructs a Tokenizer over the given line.
+     *
+     * @param line The text to split into words.
+     */
+    public Tokenizer(CharSequence line) {
+        this.line = line;
+    }
+
+    /**
+     * Checks whether there is another word left in the line.
+     *
+     * @return True if another word is left, false otherwise.
+     */
+    public boolean hasNext() {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position < line.length();
+    }
+
+    /**
+     * Returns the next word in the line.
+     *
+     * @return The next word.
+     * @throws NoSuchElementException If there are no more words in the line.
+     */
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int start = position;
+        while (position < line.length() && !Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return line.subSequence(start, position).toString();
+    }
+}
@@ -1,5 +1,12 @@
 package gojou;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import gojou.metrics.CommandMetrics;
+import gojou.task.Event;
 import gojou.task.Task;
 import gojou.task.TaskList;
 
@@ -15,6 +22,20 @@ public class Ui {
                 + "hands... as long as you can keep up!";
     }
 
+    /**
+     * Displays how far along loading the tasks from the file is.
+     *
+     * @param taskCount Number of tasks loaded so far.
+     * @param isDone True if all tasks have been loaded.
+     */
+    public String showLoadingProgress(int taskCount, boolean isDone) {
+        if (isDone) {
+            return "All " + taskCount + " of your tasks are loaded. Let's get to work!";
+        }
+        return "Loading your tasks... " + taskCount + " so far. You can already look through them, and I'll get "
+                + "to any changes once I'm done.";
+    }
+
     /**
      * Displays goodbye message when user is done interacting with chatbot.
      */
@@ -41,6 +62,26 @@ public class Ui {
         return tasks.showTasks(message);
     }
 
+    /**
+     * Displays one page of the list of Tasks to users.
+     *
+     * @param tasks TaskList that holds the list of Tasks to be displayed.
+     * @param page Number of the page to display, starting from 1.
+     * @param pageSize Number of Tasks on each page.
+     * @param pageCount Number of pages the list of Tasks takes up.
+     */
+    public String showTaskPage(TaskList tasks, int page, int pageSize, int pageCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Here are the tasks in your list (page " + page + " of " + pageCount + "): \n");
+        try {
+            tasks.writeTasks(sb, (page - 1) * pageSize + 1, page * pageSize);
+        } catch (IOException e) {
+            // A StringBuilder never fails to append
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
     /**
      * Displays a message when user marks a Task as done.
      * @param task Task that was marked.
@@ -57,6 +98,121 @@ public class Ui {
         return "OK, I've marked this task as not done yet: \n    " + task;
     }
 
+    /**
+     * Displays a message when user marks several Tasks as done at once.
+     * @param tasks Tasks that were marked.
+     */
+    public String showMarkAll(List<Task> tasks) {
+        return showTaskGroup("Nice! I've marked these " + tasks.size() + " tasks as done: ", tasks);
+    }
+
+    /**
+     * Displays a message when user marks several Tasks as not done at once.
+     * @param tasks Tasks that were unmarked.
+     */
+    public String showUnmarkAll(List<Task> tasks) {
+        return showTaskGroup("OK, I've marked these " + tasks.size() + " tasks as not done yet: ", tasks);
+    }
+
+    /**
+     * Displays a message when user deletes several Tasks at once.
+     * @param tasks Tasks that were deleted.
+     * @param size Number of tasks left in the list.
+     */
+    public String showDeleteAll(List<Task> tasks, int size) {
+        return showTaskGroup("Noted. I've removed these " + tasks.size() + " tasks: ", tasks)
+                + "\nNow you have " + size + " tasks in the list";
+    }
+
+    private String showTaskGroup(String message, List<Task> tasks) {
+        StringBuilder sb = new StringBuilder(message);
+        for (Task task : tasks) {
+            sb.append("\n    ");
+            sb.append(task);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Displays a warning when a new Event takes place at the same time as other Events.
+     *
+     * @param clashes Events that overlap with the new Event.
+     */
+    public String showClashes(List<Event> clashes) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Heads up! This clashes with ");
+        sb.append(clashes.size() == 1 ? "another event:" : clashes.size() + " other events:");
+        for (Event event : clashes) {
+            sb.append("\n    ");
+            sb.append(event);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Displays a reminder of Deadlines that are due soon and Events that are about to start.
+     *
+     * @param tasks Tasks whose reminders have come up.
+     */
+    public String showReminder(List<Task> tasks) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Psst, don't forget! These are coming up soon:");
+        for (Task task : tasks) {
+            sb.append("\n    ");
+            sb.append(task);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Displays a message when the Tasks are written to another file or the task file changes format.
+     *
+     * @param path The file the Tasks were written to.
+     * @param isBinary True if the binary format was used, false if the text format was used.
+     */
+    public String showExport(Path path, boolean isBinary) {
+        return "Done! Your tasks are now in " + path + " in " + (isBinary ? "binary" : "text") + " format.";
+    }
+
+    /**
+     * Displays a message when Tasks are imported from another file.
+     *
+     * @param count Number of Tasks that were imported.
+     * @param size Number of tasks in the Tasklist.
+     * @param errors Why the first few skipped lines could not be read.
+     * @param errorCount Number of lines that were skipped.
+     */
+    public String showImport(int count, int size, List<String> errors, int errorCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Got it. I've imported " + count + " tasks.\nNow you have " + size + " tasks in the list");
+        if (errorCount == 0) {
+            return sb.toString();
+        }
+
+        sb.append("\nI skipped " + errorCount + (errorCount == 1 ? " line" : " lines") + " I couldn't read:");
+        for (String error : errors) {
+            sb.append("\n    ");
+            sb.append(error);
+        }
+        if (errorCount > errors.size()) {
+            sb.append("\n    ...and " + (errorCount - errors.size()) + " more");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Displays how long each type of command has taken so far and how many bytes have been written to disk.
+     *
+     * @param metrics The latencies and bytes written recorded so far.
+     */
+    public String showStats(CommandMetrics metrics) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Here's how fast I've been. Spoiler: pretty fast. Times are the median, the 99th percentile "
+                + "and the slowest.\n");
+        metrics.appendSummaryTo(sb);
+        return sb.toString();
+    }
+
     /**
      * Displays a message to the user based on user command and the action taken by chatbot.
      *
@@ -3,12 +3,14 @@ package gojou.command;
 import java.io.IOException;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.List;
 
 import gojou.GojouException;
 import gojou.Parser;
 import gojou.Storage;
+import gojou.Tokenizer;
 import gojou.Ui;
+import gojou.task.Event;
 import gojou.task.Priority;
 import gojou.task.Task;
 import gojou.task.TaskList;
@@ -17,17 +19,17 @@ import gojou.task.TaskList;
  * Represents the command by user to add a Task to Tasklist.
  */
 public class AddCommand extends Command {
-    private Scanner lineScanner;
+    private Tokenizer lineTokenizer;
     private String response;
 
     /**
-     * Constructs an {@code AddCommand} instance with the provided {@code Scanner} and command response.
+     * Constructs an {@code AddCommand} instance with the provided {@code Tokenizer} and command response.
      *
-     * @param lineScanner A {@code Scanner} object used to parse the user's input.
+     * @param lineTokenizer A {@code Tokenizer} object used to parse the user's input.
      * @param response A {@code String} representing the user's command response (e.g., "todo", "deadline", "event").
      */
-    public AddCommand(Scanner lineScanner, String response) {
-        this.lineScanner = lineScanner;
+    public AddCommand(Tokenizer lineTokenizer, String response) {
+        this.lineTokenizer = lineTokenizer;
         this.response = response;
     }
 
@@ -35,7 +37,7 @@ public class AddCommand extends Command {
      * {@inheritDoc}
      *
      * Creates the Task object specified by user, save it to file and informs user that a new Task
-     * is added to Tasklist.
+     * is added to Tasklist. Users are also warned when a new Event clashes with existing Events.
      *
      * @param tasks Tasklist that holds the list of Tasks.
      * @param ui Ui object that displays messages to user based on action taken by chatbot.
@@ -48,22 +50,30 @@ public class AddCommand extends Command {
     public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException, IOException {
         ArrayList<String> arrOfStr = new ArrayList<>();
         Task task = new Task("", false, Priority.NONE);
+        List<Event> clashes = List.of();
 
         if (this.response.equals("todo")) {
-            task = Parser.makeTodoTask(lineScanner, arrOfStr, false);
+            task = Parser.makeTodoTask(lineTokenizer, arrOfStr, false);
         } else if (this.response.equals("deadline")) {
             task = getDeadlineTask(arrOfStr);
         } else if (this.response.equals("event")) {
             task = getEventTask(arrOfStr);
+            Event event = (Event) task;
+            clashes = tasks.getOverlappingEvents(event.getStartTime(), event.getEndTime());
         }
         tasks.add(task, storage);
-        return ui.showMessage("Got it. I've added this task: ", task, tasks.getSize());
+
+        String message = ui.showMessage("Got it. I've added this task: ", task, tasks.getSize());
+        if (!clashes.isEmpty()) {
+            message += "\n" + ui.showClashes(clashes);
+        }
+        return message;
     }
 
     private Task getEventTask(ArrayList<String> arrOfStr) throws GojouException {
         Task task;
         try {
-            task = Parser.makeEventTask(lineScanner, arrOfStr, false);
+            task = Parser.makeEventTask(lineTokenizer, arrOfStr, false);
         } catch (DateTimeParseException e) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
                     + "part of getting stronger. Let's try that again, shall we? Please provide the start and "
@@ -75,7 +85,7 @@ public class AddCommand extends Command {
     private Task getDeadlineTask(ArrayList<String> arrOfStr) throws GojouException {
         Task task;
         try {
-            task = Parser.makeDeadlineTask(lineScanner, arrOfStr, false);
+            task = Parser.makeDeadlineTask(lineTokenizer, arrOfStr, false);
         } catch (DateTimeParseException e) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
                     + "part of getting stronger. Let's try that again, shall we? Please provide the deadline "
@@ -30,6 +30,16 @@ public abstract class Command {
      * @return A string representing the command type.
      */
     public abstract String getCommandType();
+
+    /**
+     * Returns whether the command only reads the list of tasks. Such commands can run while tasks are still
+     * being loaded, on the tasks loaded so far.
+     *
+     * @return True if the command does not change the tasks or the file, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
 
 
@@ -1,32 +1,36 @@
 package gojou.command;
 
 import java.io.IOException;
-import java.util.Scanner;
 
 import gojou.GojouException;
+import gojou.Parser;
 import gojou.Storage;
+import gojou.Tokenizer;
 import gojou.Ui;
 import gojou.task.TaskList;
 
 /**
- * Represents the command by user to delete a Task from TaskList.
+ * Represents the command by user to delete a Task from TaskList, or several Tasks given as a list of numbers and
+ * ranges such as {@code delete 3-40,55,60}.
  */
 public class DeleteCommand extends Command {
-    private Scanner lineScanner;
+    private Tokenizer lineTokenizer;
 
     /**
      * Constructs a DeleteCommand instance.
      *
-     * @param lineScanner Scanner object used to read user input.
+     * @param lineTokenizer Tokenizer used to read user input.
      */
-    public DeleteCommand(Scanner lineScanner) {
-        this.lineScanner = lineScanner;
+    public DeleteCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
     }
 
     /**
      * {@inheritDoc}
      *
      * Deletes the Task from TaskList, saves the changes to file, and informs the user.
+     * Several Tasks are all checked before any of them is deleted, and saved together as one change. Their numbers
+     * all refer to the list as the user saw it, so deleting one Task does not move the others.
      *
      * @param tasks TaskList that holds the list of Tasks.
      * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
@@ -39,33 +43,24 @@ public class DeleteCommand extends Command {
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException, IOException {
         checkIfUserInputIntegerAfterDelete();
-        int taskNumber = getTaskNumber();
-        checkIfUserEnteredCorrectIntegerInput(tasks, taskNumber);
-
-        return tasks.delete(taskNumber, storage, ui);
-    }
+        int[] taskNumbers = getTaskNumbers(tasks, getTaskNumberString());
+        if (taskNumbers.length > 1) {
+            return tasks.deleteAll(taskNumbers, storage, ui);
+        }
 
-    private int getTaskNumber() throws GojouException {
-        String taskNumberStr = getTaskNumberString();
-        return getTaskNumber(taskNumberStr);
+        return tasks.delete(taskNumbers[0], storage, ui);
     }
 
-    private int getTaskNumber(String taskNumberStr) throws GojouException {
-        int taskNumber;
+    private int[] getTaskNumbers(TaskList tasks, String taskNumberStr) throws GojouException {
         // Handles case where user doesn't provide a number or provides a non-integer
         try {
-            taskNumber = Integer.valueOf(taskNumberStr);
+            return Parser.parseTaskNumbers(taskNumberStr, tasks.getSize());
         } catch (NumberFormatException e) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
                     + "of getting stronger. Let's try that again, shall we? Please only provide an integer number "
-                    + "after 'delete' indicating the task number to delete!");
-        }
-        return taskNumber;
-    }
-
-    private void checkIfUserEnteredCorrectIntegerInput(TaskList tasks, int taskNumber) throws GojouException {
-        // Handles the case where the user enters an invalid task number
-        if (taskNumber < 1 || taskNumber > tasks.getSize()) {
+                    + "after 'delete' indicating the task number to delete, or a list of them like 3-40,55,60!");
+        } catch (IndexOutOfBoundsException e) {
+            // Handles the case where the user enters an invalid task number
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
                     + "of getting stronger. Let's try that again, shall we? Please provide a correct task "
                     + "number to delete!");
@@ -73,19 +68,20 @@ public class DeleteCommand extends Command {
     }
 
     private String getTaskNumberString() throws GojouException {
-        String taskNumberStr = lineScanner.next();
+        String taskNumberStr = lineTokenizer.next();
         int taskNumber;
 
         // Handles case where user writes too much
-        if (lineScanner.hasNext()) {
+        if (lineTokenizer.hasNext()) {
             throw new GojouException("Whoa, slow down there, chatterbox! You might be giving me a run for my "
-                    + "money. Let's take it one step at a time, okay? Please only provide a number after 'delete'!");
+                    + "money. Let's take it one step at a time, okay? Please only provide a number after 'delete', "
+                    + "with no spaces in a list of numbers!");
         }
         return taskNumberStr;
     }
 
     private void checkIfUserInputIntegerAfterDelete() throws GojouException {
-        if (!lineScanner.hasNext()) {
+        if (!lineTokenizer.hasNext()) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
                     + "part of getting stronger. Let's try that again, shall we? Please provide an integer "
                     + "number after 'delete' indicating the task number to delete!");
@@ -1,5 +1,7 @@
 package gojou.command;
 
+import java.io.IOException;
+
 import gojou.Storage;
 import gojou.Ui;
 import gojou.task.TaskList;
@@ -12,15 +14,17 @@ public class ExitCommand extends Command {
     /**
      * {@inheritDoc}
      *
-     * Displays the goodbye message to the user.
+     * Writes any changes still waiting to be saved to the file, then displays the goodbye message to the user.
      *
      * @param tasks TaskList that holds the list of Tasks.
      * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
      * @param storage Storage object that saves changes to the file.
      * @return A goodbye message.
+     * @throws IOException If there are issues saving the changes to the file.
      */
     @Override
-    public String execute(TaskList tasks, Ui ui, Storage storage) {
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws IOException {
+        storage.flush();
         return ui.showGoodbye();
     }
 
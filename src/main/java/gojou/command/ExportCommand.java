@@ -0,0 +1,77 @@
+package gojou.command;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import gojou.GojouException;
+import gojou.Storage;
+import gojou.Tokenizer;
+import gojou.Ui;
+import gojou.task.TaskList;
+
+/**
+ * Represents the command by user to write the TaskList to a file in the text or binary format.
+ */
+public class ExportCommand extends Command {
+    private Tokenizer lineTokenizer;
+
+    /**
+     * Constructs an ExportCommand instance.
+     *
+     * @param lineTokenizer Tokenizer used to read user input.
+     */
+    public ExportCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Writes all Tasks to the given file in the chosen format. If no file is given, the task file itself
+     * is switched to the chosen format.
+     *
+     * @param tasks TaskList that holds the list of Tasks.
+     * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
+     * @param storage Storage object that writes the file.
+     * @return A message indicating where the Tasks were written.
+     * @throws GojouException If the user does not choose between the text and binary format.
+     * @throws IOException If there are issues writing the file.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException, IOException {
+        boolean isBinary = readFormat();
+        Path path = readPath();
+
+        tasks.export(path, isBinary, storage);
+        return ui.showExport(path == null ? storage.getPath() : path, isBinary);
+    }
+
+    private boolean readFormat() throws GojouException {
+        String format = lineTokenizer.hasNext() ? lineTokenizer.next() : "";
+        switch (format) {
+        case "text":
+            return false;
+        case "binary":
+            return true;
+        default:
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? Please write 'export text' or "
+                    + "'export binary', optionally followed by the file to write to!");
+        }
+    }
+
+    private Path readPath() {
+        ArrayList<String> arrOfStr = new ArrayList<>();
+        while (lineTokenizer.hasNext()) {
+            arrOfStr.add(lineTokenizer.next());
+        }
+        return arrOfStr.isEmpty() ? null : Paths.get(String.join(" ", arrOfStr));
+    }
+
+    @Override
+    public String getCommandType() {
+        return "ExportCommand";
+    }
+}
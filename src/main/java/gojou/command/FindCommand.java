@@ -1,10 +1,10 @@
 package gojou.command;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import gojou.GojouException;
 import gojou.Storage;
+import gojou.Tokenizer;
 import gojou.Ui;
 import gojou.task.TaskList;
 
@@ -12,21 +12,22 @@ import gojou.task.TaskList;
  * Represents a command to find tasks based on a search keyword.
  */
 public class FindCommand extends Command {
-    private Scanner lineScanner;
+    private Tokenizer lineTokenizer;
 
     /**
      * Constructs a FindCommand instance.
      *
-     * @param lineScanner Scanner object used to read user input.
+     * @param lineTokenizer Tokenizer used to read user input.
      */
-    public FindCommand(Scanner lineScanner) {
-        this.lineScanner = lineScanner;
+    public FindCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
     }
 
     /**
      * {@inheritDoc}
      *
      * Finds tasks that contain the search keyword and returns the result.
+     * If the keywords start with "/word", only tasks containing every keyword as a whole word are found.
      *
      * @param tasks TaskList that holds the list of Tasks.
      * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
@@ -36,16 +37,32 @@ public class FindCommand extends Command {
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException {
         ArrayList<String> arrOfStr = new ArrayList<>();
-        while (this.lineScanner.hasNext()) {
-            arrOfStr.add(this.lineScanner.next());
+        while (this.lineTokenizer.hasNext()) {
+            arrOfStr.add(this.lineTokenizer.next());
         }
 
+        if (!arrOfStr.isEmpty() && arrOfStr.get(0).equals("/word")) {
+            checkIfWordsProvided(arrOfStr);
+            return tasks.findWholeWords(String.join(" ", arrOfStr.subList(1, arrOfStr.size())), ui);
+        }
         return tasks.findWord(String.join(" ", arrOfStr), ui);
     }
 
+    private void checkIfWordsProvided(ArrayList<String> arrOfStr) throws GojouException {
+        if (arrOfStr.size() == 1) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? Please provide the words to look for "
+                    + "after 'find /word'!");
+        }
+    }
+
     @Override
     public String getCommandType() {
         return "FindCommand";
     }
-}
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
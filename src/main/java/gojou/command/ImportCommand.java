@@ -0,0 +1,81 @@
+package gojou.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import gojou.GojouException;
+import gojou.Storage;
+import gojou.TaskImporter;
+import gojou.Tokenizer;
+import gojou.Ui;
+import gojou.task.Task;
+import gojou.task.TaskList;
+
+/**
+ * Represents the command by user to add all Tasks from another task file to the TaskList.
+ */
+public class ImportCommand extends Command {
+    private Tokenizer lineTokenizer;
+
+    /**
+     * Constructs an ImportCommand instance.
+     *
+     * @param lineTokenizer Tokenizer used to read user input.
+     */
+    public ImportCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Reads the Tasks in the given file, which can be in the text, binary or CSV format, adds them to the
+     * TaskList and saves the changes to file once. Lines that cannot be read are skipped and reported.
+     * The Tasks are only added once the whole file has been read, so a failed read leaves the TaskList as it was.
+     *
+     * @param tasks TaskList that holds the list of Tasks.
+     * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
+     * @param storage Storage object that reads the file and saves changes.
+     * @return A message indicating how many Tasks were added.
+     * @throws GojouException If no file is given, the file does not exist, or it is a binary snapshot that
+     *     cannot be read.
+     * @throws IOException If there are issues reading the file or saving the changes.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException, IOException {
+        Path path = readPath();
+        TaskImporter importer = new TaskImporter();
+        ArrayList<Task> imported = new ArrayList<>();
+        importer.read(path, imported::addAll);
+
+        tasks.addAll(imported, storage);
+        return ui.showImport(imported.size(), tasks.getSize(), importer.getErrors(), importer.getErrorCount());
+    }
+
+    private Path readPath() throws GojouException {
+        ArrayList<String> arrOfStr = new ArrayList<>();
+        while (lineTokenizer.hasNext()) {
+            arrOfStr.add(lineTokenizer.next());
+        }
+
+        if (arrOfStr.isEmpty()) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? Please provide the file to import "
+                    + "after 'import'!");
+        }
+        Path path = Paths.get(String.join(" ", arrOfStr));
+        if (!Files.isRegularFile(path)) {
+            throw new GojouException("Hmm, I looked everywhere with my Six Eyes and there's no file at " + path
+                    + ". Are you sure that's the right place?");
+        }
+        return path;
+    }
+
+    @Override
+    public String getCommandType() {
+        return "ImportCommand";
+    }
+}
@@ -1,29 +1,86 @@
 package gojou.command;
 
+
+import gojou.GojouException;
 import gojou.Storage;
+import gojou.Tokenizer;
 import gojou.Ui;
 import gojou.task.TaskList;
 
 /**
- * Represents the command by user to list out all the tasks present in the Tasklist.
+ * Represents the command by user to list out the tasks present in the Tasklist.
+ * The tasks can be shown a page at a time with {@code list <page> [size]}.
  */
 public class ListCommand extends Command {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private Tokenizer lineTokenizer;
+
+    /**
+     * Constructs a ListCommand instance.
+     *
+     * @param lineTokenizer Tokenizer used to read user input.
+     */
+    public ListCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * Displays all the tasks present in the Tasklist.
+     * Displays all the tasks present in the Tasklist, or only the tasks on the page asked for.
      *
      * @param tasks Tasklist that holds the list of Tasks.
      * @param ui Ui object that displays messages to user based on action taken by chatbot.
      * @param storage Storage object that saves changes to file.
+     * @throws GojouException If the page number or page size is not a positive integer, or the page is past
+     *     the end of the list.
      */
     @Override
-    public String execute(TaskList tasks, Ui ui, Storage storage) {
-        return ui.showTasks(tasks, "Here are the tasks in your list: ");
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException {
+        if (!lineTokenizer.hasNext()) {
+            return ui.showTasks(tasks, "Here are the tasks in your list: ");
+        }
+
+        int page = getPositiveInteger(lineTokenizer.next());
+        int pageSize = lineTokenizer.hasNext() ? getPositiveInteger(lineTokenizer.next()) : DEFAULT_PAGE_SIZE;
+        if (lineTokenizer.hasNext()) {
+            throw new GojouException("Whoa, slow down there, chatterbox! You might be giving me a run for my "
+                    + "money. Let's take it one step at a time, okay? Please only provide a page number and "
+                    + "page size after 'list'!");
+        }
+
+        int pageCount = Math.max(1, (int) (((long) tasks.getSize() + pageSize - 1) / pageSize));
+        if (page > pageCount) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? There " + (pageCount == 1 ? "is" : "are")
+                    + " only " + pageCount + " page" + (pageCount == 1 ? "" : "s") + " of tasks!");
+        }
+        return ui.showTaskPage(tasks, page, pageSize, pageCount);
+    }
+
+    private int getPositiveInteger(String word) throws GojouException {
+        int number;
+        try {
+            number = Integer.parseInt(word);
+        } catch (NumberFormatException e) {
+            number = 0;
+        }
+        if (number < 1) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? Please only provide positive integer "
+                    + "numbers after 'list' for the page number and page size!");
+        }
+        return number;
     }
 
     @Override
     public String getCommandType() {
         return "";
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
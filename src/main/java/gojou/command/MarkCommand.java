@@ -1,28 +1,30 @@
 package gojou.command;
 
 import java.io.IOException;
-import java.util.Scanner;
 
 import gojou.GojouException;
+import gojou.Parser;
 import gojou.Storage;
+import gojou.Tokenizer;
 import gojou.Ui;
 import gojou.task.TaskList;
 
 /**
- * Represents the command by user to mark or unmark a Task.
+ * Represents the command by user to mark or unmark a Task, or several Tasks given as a list of numbers and
+ * ranges such as {@code mark 3-40,55,60}.
  */
 public class MarkCommand extends Command {
-    private Scanner lineScanner;
+    private Tokenizer lineTokenizer;
     private String response;
 
     /**
      * Constructs a MarkCommand instance.
      *
-     * @param lineScanner Scanner object used to read user input.
+     * @param lineTokenizer Tokenizer used to read user input.
      * @param response Indicates whether the command is to mark or unmark a task.
      */
-    public MarkCommand(Scanner lineScanner, String response) {
-        this.lineScanner = lineScanner;
+    public MarkCommand(Tokenizer lineTokenizer, String response) {
+        this.lineTokenizer = lineTokenizer;
         this.response = response;
     }
 
@@ -30,6 +32,7 @@ public class MarkCommand extends Command {
      * {@inheritDoc}
      *
      * Marks or unmarks a Task, saves changes to file, and informs user.
+     * Several Tasks are all checked before any of them is changed, and saved together as one change.
      *
      * @param tasks TaskList that holds the list of Tasks.
      * @param ui Ui object that displays messages to user based on action taken by chatbot.
@@ -42,29 +45,28 @@ public class MarkCommand extends Command {
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException, IOException {
         checkIfUserEnteredIntegerAfterMark();
-        int taskNumber = getTaskNumber();
-        checkInvalidTaskNumber(tasks, taskNumber);
-
-        return markTaskAndGetDisplayString(tasks, ui, storage, taskNumber);
-    }
+        int[] taskNumbers = getTaskNumbers(tasks, getTaskNumberStr());
+        if (taskNumbers.length > 1) {
+            return tasks.markAll(taskNumbers, this.response.equals("mark"), storage, ui);
+        }
 
-    private int getTaskNumber() throws GojouException {
-        String taskNumberStr = getTaskNumberStr();
-        return getTaskNumber(taskNumberStr);
+        return markTaskAndGetDisplayString(tasks, ui, storage, taskNumbers[0]);
     }
 
-    private int getTaskNumber(String taskNumberStr) throws GojouException {
-        int taskNumber;
-
+    private int[] getTaskNumbers(TaskList tasks, String taskNumberStr) throws GojouException {
         // Handles case where user doesn't provide a number or provides an invalid integer
         try {
-            taskNumber = Integer.valueOf(taskNumberStr);
+            return Parser.parseTaskNumbers(taskNumberStr, tasks.getSize());
         } catch (NumberFormatException e) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
                     + "getting stronger. Let's try that again, shall we? Please only provide an integer number "
-                    + "after 'mark' or 'unmark' indicating the task number to mark or unmark!");
+                    + "after 'mark' or 'unmark' indicating the task number to mark or unmark, or a list of "
+                    + "them like 3-40,55,60!");
+        } catch (IndexOutOfBoundsException e) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
+                    + "part of getting stronger. Let's try that again, shall we? Please provide a correct "
+                    + "task number to mark or unmark!");
         }
-        return taskNumber;
     }
 
     private String markTaskAndGetDisplayString(TaskList tasks, Ui ui, Storage storage, int taskNumber)
@@ -76,28 +78,20 @@ public class MarkCommand extends Command {
         }
     }
 
-    private void checkInvalidTaskNumber(TaskList tasks, int taskNumber) throws GojouException {
-        // Handles the case where user provides an invalid task number
-        if (taskNumber < 1 || taskNumber > tasks.getSize()) {
-            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
-                    + "part of getting stronger. Let's try that again, shall we? Please provide a correct "
-                    + "task number to mark or unmark!");
-        }
-    }
-
     private String getTaskNumberStr() throws GojouException {
-        String taskNumberStr = lineScanner.next();
+        String taskNumberStr = lineTokenizer.next();
 
         // Handles case where user provides extra input
-        if (lineScanner.hasNext()) {
+        if (lineTokenizer.hasNext()) {
             throw new GojouException("Whoa, slow down there, chatterbox! You might be giving me a run for my money. "
-                    + "Let's take it one step at a time, okay? Please only provide a number after 'mark' or 'unmark'!");
+                    + "Let's take it one step at a time, okay? Please only provide a number after 'mark' or "
+                    + "'unmark', with no spaces in a list of numbers!");
         }
         return taskNumberStr;
     }
 
     private void checkIfUserEnteredIntegerAfterMark() throws GojouException {
-        if (!lineScanner.hasNext()) {
+        if (!lineTokenizer.hasNext()) {
             throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part of "
                     + "getting stronger. Let's try that again, shall we? Please provide an integer number after "
                     + "'mark' or 'unmark' indicating the task number to mark or unmark!");
@@ -0,0 +1,88 @@
+package gojou.command;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+
+import gojou.GojouException;
+import gojou.Parser;
+import gojou.Storage;
+import gojou.Tokenizer;
+import gojou.Ui;
+import gojou.task.TaskList;
+
+/**
+ * Represents a command to find the events happening during a period, written as
+ * {@code overlaps /from <start> /to <end>}.
+ */
+public class OverlapsCommand extends Command {
+    private Tokenizer lineTokenizer;
+
+    /**
+     * Constructs an OverlapsCommand instance.
+     *
+     * @param lineTokenizer Tokenizer used to read user input.
+     */
+    public OverlapsCommand(Tokenizer lineTokenizer) {
+        this.lineTokenizer = lineTokenizer;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Finds the events that share some time with the period given by the user and returns them.
+     *
+     * @param tasks TaskList that holds the list of Tasks.
+     * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
+     * @param storage Storage object that saves changes to the file.
+     * @return A string listing the overlapping events.
+     * @throws GojouException If the period is missing, not in the correct format, or ends before it starts.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws GojouException {
+        ArrayList<String> arrOfStr = new ArrayList<>();
+        while (this.lineTokenizer.hasNext()) {
+            arrOfStr.add(this.lineTokenizer.next());
+        }
+
+        int startIndex = arrOfStr.indexOf("/from");
+        int endIndex = arrOfStr.indexOf("/to");
+        checkIfPeriodProvided(startIndex, endIndex, arrOfStr.size());
+
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            from = Parser.convertDateTime(String.join(" ", arrOfStr.subList(startIndex + 1, endIndex)));
+            to = Parser.convertDateTime(String.join(" ", arrOfStr.subList(endIndex + 1, arrOfStr.size())));
+        } catch (DateTimeParseException e) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just "
+                    + "part of getting stronger. Let's try that again, shall we? Please provide the start and "
+                    + "end date and time in yyyy-mm-dd HHMM format e.g. 2024-05-19 1800");
+        }
+
+        if (to.isBefore(from)) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just"
+                    + " part of getting stronger. Let's try that again, shall we? The end time should not"
+                    + " come before the start time");
+        }
+        return tasks.findOverlaps(from, to, ui);
+    }
+
+    private void checkIfPeriodProvided(int startIndex, int endIndex, int wordCount) throws GojouException {
+        if (startIndex != 0 || endIndex <= startIndex + 1 || endIndex == wordCount - 1) {
+            throw new GojouException("Oops, looks like you tripped up! No worries though - mistakes are just part "
+                    + "of getting stronger. Let's try that again, shall we? Please provide the period as '/from' "
+                    + "followed by the start time and '/to' followed by the end time");
+        }
+    }
+
+    @Override
+    public String getCommandType() {
+        return "OverlapsCommand";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package gojou.command;
+
+import gojou.Storage;
+import gojou.Ui;
+import gojou.metrics.CommandMetrics;
+import gojou.task.TaskList;
+
+/**
+ * Represents the command by user to see how long each type of command has taken to parse, execute and save,
+ * and how many bytes have been written to disk.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * {@inheritDoc}
+     *
+     * Displays the latency of each type of command run so far and the bytes written to disk.
+     *
+     * @param tasks TaskList that holds the list of Tasks.
+     * @param ui Ui object that displays messages to the user based on the action taken by the chatbot.
+     * @param storage Storage object that saves changes to the file.
+     * @return A summary of the latencies and bytes written.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        return ui.showStats(CommandMetrics.getInstance());
+    }
+
+    @Override
+    public String getCommandType() {
+        return "StatsCommand";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -1,42 +1,68 @@
 package gojou.javafx;
 
-import java.io.IOException;
 import java.util.Collections;
+import java.util.Objects;
 
+import gojou.metrics.DialogBoxEvent;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
 
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * The nodes are built in code with the same layout as {@code DialogBox.fxml} used to give them, so that
+ * no FXML has to be parsed for every message.
+ * A list cell keeps one dialog box and fills it in with {@link #setMessage} for each message it shows.
+ * Building or filling in a dialog box commits a {@link DialogBoxEvent} if a flight recording has turned it on.
  */
 public class DialogBox extends HBox {
-    @FXML
+    private static final String STYLESHEET = DialogBox.class.getResource("/dialog-box.css").toExternalForm();
+    private static final double PICTURE_SIZE = 99.0;
+
     private Label dialog;
-    @FXML
     private ImageView displayPicture;
+    private boolean isFlipped;
+    private String commandStyleClass;
+
+    /**
+     * Constructs an empty dialog box, to be filled in with {@link #setMessage}.
+     */
+    DialogBox() {
+        this("", null);
+        setCircularProfilePicture();
+    }
 
     private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        dialog = new Label(text);
+        dialog.setId("dialog");
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setWrapText(true);
+        dialog.setPadding(new Insets(6.0));
+        HBox.setMargin(dialog, new Insets(0, 7.0, 0, 7.0));
 
-        dialog.setText(text);
-        displayPicture.setImage(img);
+        displayPicture = new ImageView(img);
+        displayPicture.setId("displayPicture");
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        getStylesheets().add(STYLESHEET);
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setPadding(new Insets(15.0, 5.0, 15.0, 5.0));
+        getChildren().addAll(dialog, displayPicture);
     }
 
     private void setCircularProfilePicture() {
@@ -50,46 +76,103 @@ public class DialogBox extends HBox {
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Flips the dialog box such that the ImageView is on the left and text on the right, or back again.
      */
     private void flip() {
         ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
         Collections.reverse(tmp);
         getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-        dialog.getStyleClass().add("reply-label");
+        isFlipped = !isFlipped;
+        setAlignment(isFlipped ? Pos.TOP_LEFT : Pos.TOP_RIGHT);
+        if (isFlipped) {
+            dialog.getStyleClass().add("reply-label");
+        } else {
+            dialog.getStyleClass().remove("reply-label");
+        }
+    }
+
+    /**
+     * Shows another message in this dialog box, only changing the nodes that differ from the last message.
+     *
+     * @param text The text of the message.
+     * @param img The picture of the speaker.
+     * @param isFromUser True if the user sent the message, false if Gojou did.
+     * @param commandType The type of the command Gojou is answering, which decides the colour of the reply.
+     */
+    void setMessage(String text, Image img, boolean isFromUser, String commandType) {
+        DialogBoxEvent event = new DialogBoxEvent();
+        event.begin();
+        dialog.setText(text);
+        if (displayPicture.getImage() != img) {
+            displayPicture.setImage(img);
+        }
+        if (isFlipped == isFromUser) {
+            flip();
+        }
+        changeDialogStyle(isFromUser ? "" : commandType);
+        commitEvent(event, isFromUser ? "user" : "gojou", isFromUser ? "" : commandType, text);
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
+        DialogBoxEvent event = new DialogBoxEvent();
+        event.begin();
         var db = new DialogBox(text, img);
         db.setCircularProfilePicture();
+        commitEvent(event, "user", "", text);
         return db;
     }
 
     public static DialogBox getGojouDialog(String text, Image img, String commandType) {
+        DialogBoxEvent event = new DialogBoxEvent();
+        event.begin();
         var db = new DialogBox(text, img);
         db.setCircularProfilePicture();
         db.flip();
         db.changeDialogStyle(commandType);
+        commitEvent(event, "gojou", commandType, text);
         return db;
     }
 
+    private static void commitEvent(DialogBoxEvent event, String speaker, String commandType, String text) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSpeaker(speaker);
+            event.setCommandType(commandType);
+            event.setTextLength(text.length());
+            event.commit();
+        }
+    }
+
     private void changeDialogStyle(String commandType) {
+        String styleClass;
         switch(commandType) {
         case "AddCommand":
-            dialog.getStyleClass().add("add-label");
+            styleClass = "add-label";
             break;
         case "ChangeMarkCommand":
-            dialog.getStyleClass().add("marked-label");
+            styleClass = "marked-label";
             break;
         case "DeleteCommand":
-            dialog.getStyleClass().add("delete-label");
+            styleClass = "delete-label";
             break;
         case "Error":
-            dialog.getStyleClass().add("error-label");
+            styleClass = "error-label";
+            break;
+        case "Reminder":
+            styleClass = "reminder-label";
             break;
         default:
-            // Do nothing
+            styleClass = null;
+        }
+        if (Objects.equals(styleClass, commandStyleClass)) {
+            return;
+        }
+        if (commandStyleClass != null) {
+            dialog.getStyleClass().remove(commandStyleClass);
+        }
+        if (styleClass != null) {
+            dialog.getStyleClass().add(styleClass);
         }
+        commandStyleClass = styleClass;
     }
 }
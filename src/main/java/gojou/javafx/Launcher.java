@@ -1,12 +1,22 @@
 package gojou.javafx;
 
+import java.io.IOException;
+import java.util.Arrays;
+
+import gojou.BatchRunner;
 import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Starting it with {@code --headless} as the first argument runs Gojou without a window through
+ * {@link BatchRunner}, passing it the rest of the arguments.
  */
 public class Launcher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--headless")) {
+            BatchRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
@@ -3,7 +3,6 @@ package gojou.javafx;
 import java.io.IOException;
 
 import gojou.Gojou;
-import gojou.GojouException;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -20,6 +19,8 @@ public class Main extends Application {
 
     private Image icon = new Image(this.getClass().getResourceAsStream("/images/Gojou4.png"));
 
+    private MainWindow mainWindow;
+
     @Override
     public void start(Stage stage) {
         FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
@@ -32,12 +33,30 @@ public class Main extends Application {
             stage.setMinWidth(417);
             stage.setTitle("Gojou");
             stage.getIcons().add(icon);
-            fxmlLoader.<MainWindow>getController().setGojou(gojou); // inject the Gojou instance
+            mainWindow = fxmlLoader.getController();
+            mainWindow.setGojou(gojou); // inject the Gojou instance
             stage.show();
-            this.gojou.loadTasksFromFile();
-        } catch (IOException | GojouException e) {
+            mainWindow.loadTasks();
+        } catch (IOException e) {
             fxmlLoader.<MainWindow>getController().showErrorMsgOnStart(e);
             MainWindow.exitApplication(2);
         }
     }
+
+    /**
+     * Lets the commands already sent finish and writes out the changes still held back in the journal when the
+     * window is closed, which skips the flush done by the bye command, and closes the chat history.
+     *
+     * @throws IOException If the changes cannot be written to the task file.
+     */
+    @Override
+    public void stop() throws IOException {
+        try {
+            gojou.shutdown();
+        } finally {
+            if (mainWindow != null) {
+                mainWindow.closeHistory();
+            }
+        }
+    }
 }
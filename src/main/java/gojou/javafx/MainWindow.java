@@ -1,44 +1,75 @@
 package gojou.javafx;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import gojou.ChatHistory;
+import gojou.ChatMessage;
 import gojou.Gojou;
 import gojou.Pair;
 import gojou.Ui;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
 /**
  * Controller for the main GUI of the chatbot application.
+ * Commands run on Gojou's command thread, so the window keeps responding while they save. The input field shows
+ * that commands are pending until all their replies are in, and each reply is shown right after its command.
+ * The conversation is shown in a ListView, which only creates dialog boxes for the messages in view. Once more
+ * messages than the scrollback limit are shown, the oldest ones are moved to a {@link ChatHistory} on disk, from
+ * where the user can load them back a page at a time. Messages loaded back stay on screen, and new messages do not
+ * scroll the conversation down, until the user sends the next command.
  */
 public class MainWindow extends AnchorPane {
+    // The number of messages kept on screen can be changed with -Dgojou.scrollback=<messages>
+    private static final int SCROLLBACK_LIMIT = Integer.getInteger("gojou.scrollback", 500);
+    private static final int MESSAGES_PER_PAGE = 50;
+    private static final double LOAD_EARLIER_BUTTON_HEIGHT = 30.0;
+    private static final String PROMPT_TEXT = "Let's see what you've got!";
+    private static final String PENDING_PROMPT_TEXT = "Hold on, I'm on it...";
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<ChatMessage> dialogContainer;
     @FXML
     private TextField userInput;
+    @FXML
+    private Button loadEarlierButton;
 
     private Gojou gojou;
 
     private Ui ui = new Ui();
 
+    private ChatHistory history;
+
+    // Messages loaded back from the history since the user last sent a command, allowed on top of the limit
+    private int loadedBackCount;
+
+    private int pendingCommandCount;
+
+    private ChatMessage welcomeMessage;
+
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/user.jpg"));
     private Image gojouImage = new Image(this.getClass().getResourceAsStream("/images/Gojou4.png"));
 
     /**
-     * Initializes the MainWindow by binding the scroll pane's vertical value to the height of the dialog container
-     * and setting the prompt text for the user input field.
+     * Initializes the MainWindow by setting up the cells of the conversation and setting the prompt text for the
+     * user input field.
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        this.userInput.setPromptText("Let's see what you've got!");
+        dialogContainer.setCellFactory(listView -> new DialogCell());
+        this.userInput.setPromptText(PROMPT_TEXT);
     }
 
     /**
@@ -49,9 +80,47 @@ public class MainWindow extends AnchorPane {
      */
     public void setGojou(Gojou gojou) {
         this.gojou = gojou;
-        dialogContainer.getChildren().addAll(
-                DialogBox.getGojouDialog(ui.showWelcome(), gojouImage, "")
-        );
+        this.welcomeMessage = ChatMessage.fromGojou(ui.showWelcome(), "");
+        addMessages(welcomeMessage);
+    }
+
+    /**
+     * Starts loading Gojou's tasks in the background, showing the progress under the welcome message.
+     * Reminders are started once all tasks are loaded. If the tasks cannot be loaded, the error is shown and the
+     * application exits.
+     */
+    public void loadTasks() {
+        gojou.loadTasksInBackground(taskCount -> Platform.runLater(() -> showLoadingProgress(taskCount, false)))
+                .whenComplete((ignored, e) -> Platform.runLater(() -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        showErrorMsgOnStart(cause instanceof Exception ? (Exception) cause
+                                : new Exception(cause.toString()));
+                        exitApplication(2);
+                    } else {
+                        showLoadingProgress(gojou.getTaskCount(), true);
+                        startReminders();
+                    }
+                }));
+    }
+
+    private void showLoadingProgress(int taskCount, boolean isDone) {
+        ObservableList<ChatMessage> items = dialogContainer.getItems();
+        int index = items.indexOf(welcomeMessage);
+        if (index == -1) {
+            return;
+        }
+        welcomeMessage = ChatMessage.fromGojou(ui.showWelcome() + "\n" + ui.showLoadingProgress(taskCount, isDone),
+                "");
+        items.set(index, welcomeMessage);
+    }
+
+    /**
+     * Starts showing reminders from Gojou in the dialog container once the tasks have been loaded.
+     */
+    public void startReminders() {
+        gojou.startReminders(message -> Platform.runLater(() -> addMessages(
+                ChatMessage.fromGojou(message, "Reminder"))));
     }
 
     /**
@@ -60,27 +129,51 @@ public class MainWindow extends AnchorPane {
      * @param e The exception that triggered the error message.
      */
     public void showErrorMsgOnStart(Exception e) {
-        dialogContainer.getChildren().addAll(
-                DialogBox.getGojouDialog(ui.showError(e), gojouImage, "Error")
-        );
+        addMessages(ChatMessage.fromGojou(ui.showError(e), "Error"));
     }
 
     /**
-     * Handles user input by creating and displaying two dialog boxes: one for the user's input and one for Gojou's
-     * response. Clears the user input field after processing. If the command type indicates an exit command, a delay
-     * is introduced before the application exits.
+     * Handles user input by displaying the user's input straight away and sending it to Gojou, whose response is
+     * displayed once the command has run. Clears the user input field so the next command can be typed in the
+     * meantime.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        Pair<String, String> pair = gojou.getResponse(input);
-        String response = pair.getFirst();
-        String commandType = pair.getSecond();
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getGojouDialog(response, gojouImage, commandType)
-        );
+        ChatMessage inputMessage = ChatMessage.fromUser(input);
+        loadedBackCount = 0;
+        addMessages(inputMessage);
         userInput.clear();
+        setPendingCommandCount(pendingCommandCount + 1);
+
+        gojou.getResponseAsync(input).whenComplete((pair, e) -> Platform.runLater(() -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                Exception error = cause instanceof Exception ? (Exception) cause : new Exception(cause.toString());
+                showResponse(inputMessage, new Pair<>(ui.showError(error), "Error"));
+            } else {
+                showResponse(inputMessage, pair);
+            }
+        }));
+    }
+
+    /**
+     * Displays Gojou's response right after the input it answers. If the command type indicates an exit command,
+     * a delay is introduced before the application exits.
+     */
+    private void showResponse(ChatMessage inputMessage, Pair<String, String> pair) {
+        setPendingCommandCount(pendingCommandCount - 1);
+        String commandType = pair.getSecond();
+        ChatMessage response = ChatMessage.fromGojou(pair.getFirst(), commandType);
+
+        // Other messages may have come in while the command was running, such as the user's next input
+        ObservableList<ChatMessage> items = dialogContainer.getItems();
+        int inputIndex = items.lastIndexOf(inputMessage);
+        if (inputIndex == -1 || inputIndex == items.size() - 1) {
+            addMessages(response);
+        } else {
+            items.add(inputIndex + 1, response);
+        }
 
         if (commandType.equals("ExitCommand")) {
             // Create a PauseTransition to delay the exit
@@ -88,6 +181,84 @@ public class MainWindow extends AnchorPane {
         }
     }
 
+    private void setPendingCommandCount(int count) {
+        pendingCommandCount = count;
+        if (count > 0) {
+            userInput.setPromptText(PENDING_PROMPT_TEXT);
+            if (!userInput.getStyleClass().contains("pending")) {
+                userInput.getStyleClass().add("pending");
+            }
+        } else {
+            userInput.setPromptText(PROMPT_TEXT);
+            userInput.getStyleClass().remove("pending");
+        }
+    }
+
+    /**
+     * Brings the latest page of messages kept on disk back to the top of the conversation.
+     */
+    @FXML
+    private void handleLoadEarlier() {
+        try {
+            List<ChatMessage> earlier = history.takeLatest(MESSAGES_PER_PAGE);
+            dialogContainer.getItems().addAll(0, earlier);
+            loadedBackCount += earlier.size();
+            dialogContainer.scrollTo(earlier.size());
+        } catch (IOException e) {
+            dialogContainer.getItems().add(ChatMessage.fromGojou(ui.showError(e), "Error"));
+        }
+        updateLoadEarlierButton();
+    }
+
+    /**
+     * Adds messages to the end of the conversation and scrolls down to them. The oldest messages are moved to disk
+     * if there are more than the scrollback limit and the messages loaded back.
+     * If the user has loaded back earlier messages, the conversation is left where it is instead.
+     */
+    private void addMessages(ChatMessage... messages) {
+        ObservableList<ChatMessage> items = dialogContainer.getItems();
+        items.addAll(messages);
+
+        int limit = SCROLLBACK_LIMIT + loadedBackCount;
+        if (items.size() > limit) {
+            List<ChatMessage> oldest = items.subList(0, items.size() - limit);
+            try {
+                if (history == null) {
+                    history = new ChatHistory();
+                }
+                history.spill(new ArrayList<>(oldest));
+                oldest.clear();
+            } catch (IOException e) {
+                // Keeps the messages on screen rather than losing them
+            }
+            updateLoadEarlierButton();
+        }
+        if (loadedBackCount == 0) {
+            dialogContainer.scrollTo(items.size() - 1);
+        }
+    }
+
+    /**
+     * Closes the file holding the messages moved off the screen, which deletes it.
+     */
+    public void closeHistory() {
+        if (history == null) {
+            return;
+        }
+        try {
+            history.close();
+        } catch (IOException e) {
+            // The file is still deleted when the program exits
+        }
+        history = null;
+    }
+
+    private void updateLoadEarlierButton() {
+        boolean hasEarlier = history != null && history.size() > 0;
+        loadEarlierButton.setVisible(hasEarlier);
+        AnchorPane.setTopAnchor(dialogContainer, hasEarlier ? LOAD_EARLIER_BUTTON_HEIGHT : 0.0);
+    }
+
     /**
      * Exits the application after a specified delay.
      *
@@ -99,5 +270,30 @@ public class MainWindow extends AnchorPane {
 
         delay.play(); // Start the delay
     }
-}
 
+    /**
+     * Shows a message as a dialog box. Cells are reused as the conversation is scrolled, so each cell builds one
+     * dialog box and fills it in with whichever message it is showing.
+     */
+    private class DialogCell extends ListCell<ChatMessage> {
+        private final DialogBox dialogBox = new DialogBox();
+
+        DialogCell() {
+            // Lets the cell shrink to the width of the list, so long messages wrap instead of scrolling sideways
+            setPrefWidth(0);
+            getStyleClass().add("dialog-cell");
+        }
+
+        @Override
+        protected void updateItem(ChatMessage message, boolean isEmpty) {
+            super.updateItem(message, isEmpty);
+            if (isEmpty || message == null) {
+                setGraphic(null);
+            } else {
+                dialogBox.setMessage(message.getText(), message.isFromUser() ? userImage : gojouImage,
+                        message.isFromUser(), message.getCommandType());
+                setGraphic(dialogBox);
+            }
+        }
+    }
+}
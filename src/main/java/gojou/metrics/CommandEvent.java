@@ -0,0 +1,44 @@
+package gojou.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents a JDK Flight Recorder event for a command, from reading the user's input to having the response.
+ * It is disabled unless a recording turns it on, and a disabled event is never committed.
+ */
+@Name("gojou.Command")
+@Label("Command")
+@Category("Gojou")
+@Description("A command typed by the user, from parsing to having the response")
+@Enabled(false)
+@StackTrace(false)
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Input Length")
+    @Description("Number of characters the user typed")
+    private int inputLength;
+
+    @Label("Outcome")
+    @Description("Whether the command succeeded or ended in an error")
+    private String outcome;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setInputLength(int inputLength) {
+        this.inputLength = inputLength;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,207 @@
+package gojou.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps latency histograms of the parse, execute and persist phases of each type of command, and counts the
+ * bytes written to disk. The persist phase is the time a command spends in Storage on its own thread. Writes
+ * that happen later in the background add to the bytes written but not to any command's time.
+ * There is one CommandMetrics for the whole app, and all of it can be used from any thread.
+ */
+public class CommandMetrics {
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+    private static final ScheduledExecutorService DUMPER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gojou-metrics-dump");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConcurrentHashMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final ThreadLocal<long[]> persistNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private ScheduledFuture<?> dump;
+
+    /**
+     * Represents a phase of handling a command.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST
+    }
+
+    /**
+     * Returns the CommandMetrics shared by the whole app.
+     *
+     * @return The shared CommandMetrics.
+     */
+    public static CommandMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records the time taken by a phase of a command.
+     *
+     * @param commandType The type of the command.
+     * @param phase The phase that was timed.
+     * @param nanos The time taken in nanoseconds.
+     */
+    public void record(String commandType, Phase phase, long nanos) {
+        getHistograms(commandType)[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns the histogram of a phase of a command type, which is empty if no such command has been recorded.
+     *
+     * @param commandType The type of the command.
+     * @param phase The phase of the command.
+     * @return The histogram of the times taken by the phase in nanoseconds.
+     */
+    public LatencyHistogram getHistogram(String commandType, Phase phase) {
+        return getHistograms(commandType)[phase.ordinal()];
+    }
+
+    private LatencyHistogram[] getHistograms(String commandType) {
+        return histograms.computeIfAbsent(commandType, type -> {
+            LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+            return phases;
+        });
+    }
+
+    /**
+     * Returns the types of command recorded so far, in alphabetical order.
+     *
+     * @return The command types.
+     */
+    public List<String> getCommandTypes() {
+        List<String> commandTypes = new ArrayList<>(histograms.keySet());
+        Collections.sort(commandTypes);
+        return commandTypes;
+    }
+
+    /**
+     * Adds to the time the current thread has spent writing changes to disk, for the command it is running.
+     *
+     * @param nanos The time spent in nanoseconds.
+     */
+    public void addPersistNanos(long nanos) {
+        persistNanos.get()[0] += nanos;
+    }
+
+    /**
+     * Returns the time the current thread has spent writing changes to disk since this was last called, and
+     * starts counting again from zero.
+     *
+     * @return The time spent in nanoseconds.
+     */
+    public long takePersistNanos() {
+        long[] nanos = persistNanos.get();
+        long taken = nanos[0];
+        nanos[0] = 0;
+        return taken;
+    }
+
+    /**
+     * Adds to the number of bytes written to disk.
+     *
+     * @param bytes The number of bytes written.
+     */
+    public void addBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Returns the number of bytes written to disk since the app started.
+     *
+     * @return The number of bytes written.
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Writes the counts and the 50th percentile, 99th percentile and largest time of each phase of each
+     * command type, one command type per line, followed by the number of bytes written.
+     *
+     * @param sb The builder to write to.
+     */
+    public void appendSummaryTo(StringBuilder sb) {
+        for (String commandType : getCommandTypes()) {
+            LatencyHistogram[] phases = getHistograms(commandType);
+            long count = phases[Phase.PARSE.ordinal()].getCount();
+            sb.append(commandType).append(": ").append(count).append(count == 1 ? " run" : " runs");
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = phases[phase.ordinal()];
+                sb.append(" | ").append(phase.name().toLowerCase(Locale.ROOT)).append(" p50 ");
+                appendDuration(sb, histogram.getValueAtPercentile(50));
+                sb.append(" p99 ");
+                appendDuration(sb, histogram.getValueAtPercentile(99));
+                sb.append(" max ");
+                appendDuration(sb, histogram.getMax());
+            }
+            sb.append('\n');
+        }
+        sb.append("Bytes written: ").append(getBytesWritten());
+    }
+
+    private static void appendDuration(StringBuilder sb, long nanos) {
+        if (nanos < 1_000) {
+            sb.append(nanos).append("ns");
+        } else if (nanos < 1_000_000) {
+            sb.append(String.format(Locale.ROOT, "%.1fus", nanos / 1e3));
+        } else if (nanos < 1_000_000_000) {
+            sb.append(String.format(Locale.ROOT, "%.1fms", nanos / 1e6));
+        } else {
+            sb.append(String.format(Locale.ROOT, "%.2fs", nanos / 1e9));
+        }
+    }
+
+    /**
+     * Starts writing the summary to a file every so often on a background thread, replacing what was there.
+     * Does nothing if the summary is already being written to a file.
+     *
+     * @param file The file to write the summary to.
+     * @param intervalSeconds How many seconds to wait between writes.
+     */
+    public synchronized void startDumping(Path file, long intervalSeconds) {
+        if (dump != null) {
+            return;
+        }
+        dump = DUMPER.scheduleAtFixedRate(() -> dumpTo(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the summary to a file, replacing it in one step so that it is never read half written.
+     * A write that fails is skipped, and the next one tries again.
+     */
+    private void dumpTo(Path file) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Written at ").append(LocalDateTime.now()).append('\n');
+        appendSummaryTo(sb);
+        sb.append('\n');
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.writeString(tempFile, sb);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Metrics are only for looking into performance, so they never get in the way of the app
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package gojou.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents a JDK Flight Recorder event for building a chat bubble or filling it in with another message.
+ * It is disabled unless a recording turns it on, and a disabled event is never committed.
+ */
+@Name("gojou.DialogBox")
+@Label("Dialog Box Creation")
+@Category("Gojou")
+@Description("Building the nodes of a chat bubble or filling them in with another message")
+@Enabled(false)
+@StackTrace(false)
+public class DialogBoxEvent extends Event {
+    @Label("Speaker")
+    @Description("user or gojou")
+    private String speaker;
+
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Text Length")
+    private int textLength;
+
+    public void setSpeaker(String speaker) {
+        this.speaker = speaker;
+    }
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setTextLength(int textLength) {
+        this.textLength = textLength;
+    }
+}
@@ -0,0 +1,107 @@
+package gojou.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how many recorded values fall into each of a fixed set of buckets, in the way HdrHistogram does.
+ * Values below 16 get a bucket each, and every power of two above that is split into 16 equal buckets, so a
+ * value read back from the histogram is never more than about 6% above the value that was recorded.
+ * Recording a value is a single atomic increment, so many threads can record at once without locking.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (Long.SIZE - SUB_BUCKET_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value, such as the nanoseconds taken by a command. Negative values are recorded as 0.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        if (recorded > max.get()) {
+            max.accumulateAndGet(recorded, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return The number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the largest value recorded, exactly.
+     *
+     * @return The largest value recorded, or 0 if none has been.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value that the given percentage of recorded values are at or below, rounded up to the top
+     * of its bucket.
+     *
+     * @param percentile The percentage, from 0 to 100.
+     * @return The value at the percentile, or 0 if no value has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket of a value that is not negative.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // The top SUB_BUCKET_BITS + 1 bits of the value pick the bucket
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the largest value that falls into the given bucket.
+     */
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long topBits = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((topBits + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,46 @@
+package gojou.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents a JDK Flight Recorder event for reading or rewriting the whole task file.
+ * It is disabled unless a recording turns it on, and a disabled event is never committed.
+ */
+@Name("gojou.Storage")
+@Label("Task File I/O")
+@Category("Gojou")
+@Description("Loading the task file, or saving or compacting it into a new snapshot")
+@Enabled(false)
+@StackTrace(false)
+public class StorageEvent extends Event {
+    @Label("Operation")
+    @Description("load, save or compact")
+    private String operation;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Bytes")
+    @Description("Size of the snapshot read or written, and of the journal replayed on load")
+    @DataAmount
+    private long bytes;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -1,7 +1,6 @@
 package gojou.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a Task with a deadline.
@@ -21,30 +20,44 @@ public class Deadline extends Task {
         this.deadline = deadline;
     }
 
+    /**
+     * Returns the deadline of the Task.
+     *
+     * @return The deadline as a LocalDateTime object.
+     */
+    public LocalDateTime getDeadline() {
+        return this.deadline;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * Returns the String representation of the Task to be displayed to the user
+     * Appends the representation of the Task displayed to the user
      * that includes its completion status, description, and deadline.
      *
-     * @return A String representation of the Deadline Task.
+     * @param sb The StringBuilder to append to.
      */
     @Override
-    public String toString() {
-        return "[D]" + super.toString() + " (by: "
-                + this.deadline.format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + ")";
+    public void appendTo(StringBuilder sb) {
+        sb.append("[D]");
+        super.appendTo(sb);
+        sb.append(" (by: ");
+        DISPLAY_DATE_TIME_FORMAT.formatTo(this.deadline, sb);
+        sb.append(')');
     }
 
     /**
-     * Returns a String representation of the Deadline Task suitable for storage.
+     * Appends the representation of the Deadline Task suitable for storage.
      * The format includes the task details and the deadline in "yyyy-MM-dd HHmm" format.
      *
-     * @return A String representation of the Deadline Task for storage.
+     * @param sb The StringBuilder to append to.
      */
     @Override
-    public String toStorageString() {
-        return "[D]" + super.toStorageString() + " /by "
-                + this.deadline.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+    public void appendStorageTo(StringBuilder sb) {
+        sb.append("[D]");
+        super.appendStorageTo(sb);
+        sb.append(" /by ");
+        STORAGE_DATE_TIME_FORMAT.formatTo(this.deadline, sb);
     }
 }
 
@@ -1,7 +1,6 @@
 package gojou.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a Task with a start and end date and time.
@@ -25,32 +24,57 @@ public class Event extends Task {
         this.endTime = endTime;
     }
 
+    /**
+     * Returns the start date and time of the Event.
+     *
+     * @return The start time as a LocalDateTime object.
+     */
+    public LocalDateTime getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Returns the end date and time of the Event.
+     *
+     * @return The end time as a LocalDateTime object.
+     */
+    public LocalDateTime getEndTime() {
+        return this.endTime;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * Returns the String representation of the Task to be displayed to the user
+     * Appends the representation of the Task displayed to the user
      * that includes its completion status, description, start date, and end date.
      *
-     * @return A String representation of the Event Task.
+     * @param sb The StringBuilder to append to.
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString() + " (from: "
-                + this.startTime.format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + " to: "
-                + this.endTime.format(DateTimeFormatter.ofPattern("MMM d yyyy h.mma")) + ")";
+    public void appendTo(StringBuilder sb) {
+        sb.append("[E]");
+        super.appendTo(sb);
+        sb.append(" (from: ");
+        DISPLAY_DATE_TIME_FORMAT.formatTo(this.startTime, sb);
+        sb.append(" to: ");
+        DISPLAY_DATE_TIME_FORMAT.formatTo(this.endTime, sb);
+        sb.append(')');
     }
 
     /**
-     * Returns a String representation of the Event Task suitable for storage.
+     * Appends the representation of the Event Task suitable for storage.
      * The format includes the task details, start date, and end date in "yyyy-MM-dd HHmm" format.
      *
-     * @return A String representation of the Event Task for storage.
+     * @param sb The StringBuilder to append to.
      */
     @Override
-    public String toStorageString() {
-        return "[E]" + super.toStorageString() + " /from "
-                + this.startTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"))
-                + " /to " + this.endTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+    public void appendStorageTo(StringBuilder sb) {
+        sb.append("[E]");
+        super.appendStorageTo(sb);
+        sb.append(" /from ");
+        STORAGE_DATE_TIME_FORMAT.formatTo(this.startTime, sb);
+        sb.append(" /to ");
+        STORAGE_DATE_TIME_FORMAT.formatTo(this.endTime, sb);
     }
 }
 
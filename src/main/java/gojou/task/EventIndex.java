@@ -0,0 +1,177 @@
+package gojou.task;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import gojou.Parser;
+
+/**
+ * Indexes Events by the time they take up, so the Events overlapping a period can be found without
+ * looking at every task.
+ * The Events are kept in a treap ordered by start time, where each node also remembers the latest end time
+ * in its subtree. Subtrees that end before the period starts are skipped, which makes a lookup take
+ * O(log n + k) time for k matching Events.
+ * Periods include their start but not their end, so back-to-back Events do not overlap.
+ */
+class EventIndex {
+    private final IdentityHashMap<Event, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    private long nextSequence;
+
+    private static class Node {
+        private final Event event;
+        private final long start;
+        private final long end;
+        // Tells Events with the same start time apart, in the order they were added
+        private final long sequence;
+        private final int weight;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Event event, long sequence, int weight) {
+            this.event = event;
+            this.start = Parser.toEpochMinutes(event.getStartTime());
+            this.end = Parser.toEpochMinutes(event.getEndTime());
+            this.sequence = sequence;
+            this.weight = weight;
+            this.maxEnd = end;
+        }
+
+        boolean isBefore(Node other) {
+            return start < other.start || (start == other.start && sequence < other.sequence);
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+
+    /**
+     * Adds an Event to the index.
+     *
+     * @param event The Event to add.
+     */
+    void add(Event event) {
+        Node node = new Node(event, nextSequence++, random.nextInt());
+        nodes.put(event, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes an Event from the index. Nothing happens if the Event is not in the index.
+     *
+     * @param event The Event to remove.
+     */
+    void remove(Event event) {
+        Node node = nodes.remove(event);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Finds the Events that share some time with the given period.
+     *
+     * @param from The start of the period, in minutes since the epoch.
+     * @param to The end of the period, in minutes since the epoch.
+     * @return The overlapping Events, ordered by start time.
+     */
+    ArrayList<Event> findOverlapping(long from, long to) {
+        ArrayList<Event> events = new ArrayList<>();
+        collectOverlapping(root, from, to, events);
+        return events;
+    }
+
+    private void collectOverlapping(Node node, long from, long to, ArrayList<Event> events) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, events);
+        // Everything to the right starts no earlier than this node, so it starts too late as well
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            events.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, events);
+    }
+
+    private Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.weight > subtree.weight) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.weight > subtree.weight) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private Node delete(Node subtree, Node node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Joins two subtrees where every node of the first comes before every node of the second.
+     */
+    private Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.weight > second.weight) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            second.update();
+            return second;
+        }
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+}
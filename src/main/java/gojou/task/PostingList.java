@@ -0,0 +1,60 @@
+package gojou.task;
+
+import java.util.Arrays;
+
+/**
+ * Holds the ids of the tasks that share a search term, in increasing order.
+ * Task ids are handed out in increasing order, so adding a task only appends to the end.
+ */
+class PostingList {
+    private int[] ids = new int[2];
+    private int size;
+
+    /**
+     * Adds a task id, which must not be smaller than any id already in the list.
+     * Adding the same id twice in a row has no effect.
+     */
+    void add(int id) {
+        assert size == 0 || ids[size - 1] <= id : "Task ids must be added in increasing order";
+        if (size > 0 && ids[size - 1] == id) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ids that appear in every one of the given lists, in increasing order.
+     * Starts from the shortest list so that the work done depends on the rarest term.
+     */
+    static int[] intersect(PostingList... lists) {
+        if (lists.length == 0) {
+            return new int[0];
+        }
+        PostingList[] sorted = lists.clone();
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(sorted[0].ids, sorted[0].size);
+        int resultSize = result.length;
+        for (int i = 1; i < sorted.length && resultSize > 0; i++) {
+            int kept = 0;
+            for (int j = 0; j < resultSize; j++) {
+                if (sorted[i].contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            resultSize = kept;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+}
@@ -1,11 +1,19 @@
 package gojou.task;
 
+import java.time.format.DateTimeFormatter;
+
 /**
  * Represents a task with a description and a completion status.
+ * Tasks are written straight into a StringBuilder by {@link #appendTo(StringBuilder)} and
+ * {@link #appendStorageTo(StringBuilder)}, so a long list can be shown or saved through one builder.
  */
 public class Task implements Comparable<Task> {
+    static final DateTimeFormatter DISPLAY_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy h.mma");
+    static final DateTimeFormatter STORAGE_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
     private String taskName;
-    private boolean isCompleted;
+    // Read by the reminder thread while commands change it
+    private volatile boolean isCompleted;
     private Priority priority;
 
     /**
@@ -34,6 +42,33 @@ public class Task implements Comparable<Task> {
         this.isCompleted = false;
     }
 
+    /**
+     * Returns the name or description of the Task.
+     *
+     * @return The name of the Task.
+     */
+    public String getTaskName() {
+        return this.taskName;
+    }
+
+    /**
+     * Returns whether the Task is marked as done.
+     *
+     * @return True if the Task is done, false otherwise.
+     */
+    public boolean isCompleted() {
+        return this.isCompleted;
+    }
+
+    /**
+     * Returns the priority of the Task.
+     *
+     * @return The priority of the Task.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
     /**
      * Returns the String representation of the Task to be displayed to the user,
      * including its completion status and description.
@@ -42,23 +77,32 @@ public class Task implements Comparable<Task> {
      */
     @Override
     public String toString() {
-        String completionBox = this.isCompleted ? "[X]" : "[ ]";
-        String priorityBox;
+        StringBuilder sb = new StringBuilder();
+        appendTo(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the representation of the Task displayed to the user, the same text as {@link #toString()}.
+     *
+     * @param sb The StringBuilder to append to.
+     */
+    public void appendTo(StringBuilder sb) {
         switch (this.priority) {
         case HIGH:
-            priorityBox = "[HIGH]";
+            sb.append("[HIGH]");
             break;
         case MEDIUM:
-            priorityBox = "[MEDIUM]";
+            sb.append("[MEDIUM]");
             break;
         case LOW:
-            priorityBox = "[LOW]";
+            sb.append("[LOW]");
             break;
         default:
-            priorityBox = "[-]";
+            sb.append("[-]");
         }
-
-        return String.format("%s%s %s", priorityBox, completionBox, this.taskName);
+        sb.append(this.isCompleted ? "[X] " : "[ ] ");
+        sb.append(this.taskName);
     }
 
     /**
@@ -70,22 +114,32 @@ public class Task implements Comparable<Task> {
      * @return A String representation of the Task for storage.
      */
     public String toStorageString() {
-        String completionBox = this.isCompleted ? "[X]" : "[ ]";
-        String priorityString;
+        StringBuilder sb = new StringBuilder();
+        appendStorageTo(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the representation of the Task saved in a file, the same text as {@link #toStorageString()}.
+     *
+     * @param sb The StringBuilder to append to.
+     */
+    public void appendStorageTo(StringBuilder sb) {
+        sb.append(this.isCompleted ? "[X] " : "[ ] ");
+        sb.append(this.taskName);
         switch (this.priority) {
         case HIGH:
-            priorityString = "//high";
+            sb.append(" //high");
             break;
         case MEDIUM:
-            priorityString = "//medium";
+            sb.append(" //medium");
             break;
         case LOW:
-            priorityString = "//low";
+            sb.append(" //low");
             break;
         default:
-            priorityString = "";
+            sb.append(' ');
         }
-        return String.format("%s %s %s", completionBox, this.taskName, priorityString);
     }
 
     /**
@@ -0,0 +1,182 @@
+package gojou.task;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Holds the tasks of one priority in the order they were added.
+ * Removed tasks leave an empty slot behind instead of shifting the later tasks down, and a Fenwick tree
+ * over the slots counts the tasks still present, so the task at a given position can be found and removed
+ * in logarithmic time. The slots are packed together again once more of them are empty than not.
+ */
+class TaskBucket implements Iterable<Task> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_SLOTS_BEFORE_PACKING = 64;
+
+    private Task[] slots = new Task[INITIAL_CAPACITY];
+    // tree[i] counts the tasks in slots (i - lowestBit(i), i], with i starting from 1
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int size;
+
+    /**
+     * Returns the number of tasks in the bucket.
+     *
+     * @return The number of tasks that have not been removed.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a task after all other tasks in the bucket.
+     *
+     * @param task The task to add.
+     */
+    void add(Task task) {
+        if (slotCount == slots.length) {
+            grow();
+        }
+        slots[slotCount] = task;
+        slotCount++;
+        // The new node covers the slots before it that belong to its range, plus itself
+        int i = slotCount;
+        tree[i] = 1 + prefixCount(i - 1) - prefixCount(i - (i & -i));
+        size++;
+    }
+
+    /**
+     * Returns the task at the given position among the tasks still in the bucket.
+     *
+     * @param index The position of the task, starting from 0.
+     * @return The task at that position.
+     */
+    Task get(int index) {
+        return slots[findSlot(index)];
+    }
+
+    /**
+     * Removes the task at the given position among the tasks still in the bucket.
+     *
+     * @param index The position of the task, starting from 0.
+     * @return The task that was removed.
+     */
+    Task remove(int index) {
+        int slot = findSlot(index);
+        Task task = slots[slot];
+        slots[slot] = null;
+        for (int i = slot + 1; i <= slotCount; i += i & -i) {
+            tree[i]--;
+        }
+        size--;
+
+        if (slotCount >= MIN_SLOTS_BEFORE_PACKING && size * 2 < slotCount) {
+            pack();
+        }
+        return task;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator over the tasks in the bucket, starting from the given position.
+     *
+     * @param fromIndex The position of the first task to return, starting from 0. May be the size of the bucket.
+     * @return An iterator over the tasks from that position onwards.
+     */
+    Iterator<Task> iterator(int fromIndex) {
+        int firstSlot = fromIndex == size ? slotCount : findSlot(fromIndex);
+        return new Iterator<>() {
+            private int slot = firstSlot;
+
+            @Override
+            public boolean hasNext() {
+                return slot < slotCount;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots[slot];
+                slot = nextSlot(slot + 1);
+                return task;
+            }
+        };
+    }
+
+    private int nextSlot(int from) {
+        int slot = from;
+        while (slot < slotCount && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private int prefixCount(int slotEnd) {
+        int count = 0;
+        for (int i = slotEnd; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Walks down the Fenwick tree to the slot holding the task with the given number of tasks before it.
+     */
+    private int findSlot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for " + size + " tasks");
+        }
+        int position = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= slotCount && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    private void grow() {
+        Task[] larger = new Task[slots.length * 2];
+        System.arraycopy(slots, 0, larger, 0, slotCount);
+        slots = larger;
+        int[] largerTree = new int[larger.length + 1];
+        System.arraycopy(tree, 0, largerTree, 0, slotCount + 1);
+        tree = largerTree;
+    }
+
+    /**
+     * Moves the remaining tasks to the front of the slots and rebuilds the tree over them.
+     */
+    private void pack() {
+        int packed = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                slots[packed] = slots[slot];
+                packed++;
+            }
+        }
+        for (int slot = packed; slot < slotCount; slot++) {
+            slots[slot] = null;
+        }
+        slotCount = packed;
+
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] = i <= slotCount ? 1 : 0;
+        }
+        for (int i = 1; i <= slotCount; i++) {
+            int parent = i + (i & -i);
+            if (parent <= slotCount) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -1,25 +1,56 @@
 package gojou.task;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 
+import gojou.Parser;
 import gojou.Storage;
 import gojou.Ui;
 
 /**
  * Encapsulates the list of tasks and contains operations to modify the list,
  * such as adding and deleting tasks.
+ * Tasks are kept in one bucket per priority, in the order they were added, so higher priority tasks
+ * come first without the list ever being sorted. Each bucket finds a task by its number in logarithmic time,
+ * so deleting or marking tasks does not shift the rest of the list.
+ * Indexes of the words and trigrams in task names are built the first time a search needs them
+ * and kept up to date afterwards.
+ * All methods lock the TaskList, so it can be read while another thread is still loading tasks into it.
  */
 public class TaskList {
-    private ArrayList<Task> list;
+    private EnumMap<Priority, TaskBucket> buckets = new EnumMap<>(Priority.class);
+    private int size;
+    private TaskListener listener;
+
+    // Search index, built lazily. Ids follow the order tasks were added in. Removing a task only clears its slot
+    // in tasksById, and the word indexes are dropped to be rebuilt once the cleared slots outnumber the tasks.
+    private IdentityHashMap<Task, Integer> ids;
+    private ArrayList<Task> tasksById;
+    private int removedIdCount;
+    private WordIndex wordIndex;
+    private TrigramIndex trigramIndex;
+    private EventIndex eventIndex;
 
     /**
      * Constructs a TaskList with the given list of tasks.
+     * Tasks of the same priority keep the order they have in the given list.
      *
      * @param list The initial list of tasks.
      */
     public TaskList(ArrayList<Task> list) {
-        this.list = list;
+        for (Priority priority : Priority.values()) {
+            buckets.put(priority, new TaskBucket());
+        }
+        for (Task task : list) {
+            insert(task);
+        }
     }
 
     /**
@@ -27,8 +58,97 @@ public class TaskList {
      *
      * @return The size of the task list.
      */
-    public int getSize() {
-        return this.list.size();
+    public synchronized int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the Task with the given number in the list.
+     *
+     * @param taskNumber The number of the Task, starting from 1.
+     * @return The Task with that number.
+     */
+    public synchronized Task get(int taskNumber) {
+        int index = taskNumber - 1;
+        for (TaskBucket bucket : buckets.values()) {
+            if (index < bucket.size()) {
+                return bucket.get(index);
+            }
+            index -= bucket.size();
+        }
+        throw new IndexOutOfBoundsException("Task number " + taskNumber + " out of range for " + size + " tasks");
+    }
+
+    /**
+     * Adds a Task after the other Tasks of the same priority without saving the change.
+     *
+     * @param task The Task object to be added.
+     */
+    public synchronized void insert(Task task) {
+        buckets.get(task.getPriority()).add(task);
+        size++;
+        index(task);
+        if (listener != null) {
+            listener.taskAdded(task);
+        }
+    }
+
+    /**
+     * Adds several Tasks in their places without saving the change.
+     *
+     * @param tasks The Task objects to be added, in order.
+     */
+    public synchronized void insertAll(List<Task> tasks) {
+        for (Task task : tasks) {
+            insert(task);
+        }
+    }
+
+    /**
+     * Removes the Task with the given number from the list without saving the change.
+     *
+     * @param taskNumber The number of the Task, starting from 1.
+     * @return The Task that was removed.
+     */
+    public synchronized Task remove(int taskNumber) {
+        int index = taskNumber - 1;
+        for (TaskBucket bucket : buckets.values()) {
+            if (index < bucket.size()) {
+                Task task = bucket.remove(index);
+                size--;
+                unindex(task);
+                if (listener != null) {
+                    listener.taskRemoved(task);
+                }
+                return task;
+            }
+            index -= bucket.size();
+        }
+        throw new IndexOutOfBoundsException("Task number " + taskNumber + " out of range for " + size + " tasks");
+    }
+
+    /**
+     * Sets the listener to be told about every Task added to or removed from the list from now on.
+     *
+     * @param listener The listener, or null to stop telling anyone.
+     */
+    public synchronized void setListener(TaskListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns a copy of the Tasks in the order they are numbered in.
+     *
+     * @return A new ArrayList holding all Tasks.
+     */
+    public synchronized ArrayList<Task> toArrayList() {
+        ArrayList<Task> list = new ArrayList<>(size);
+        for (TaskBucket bucket : buckets.values()) {
+            for (Task task : bucket) {
+                list.add(task);
+            }
+        }
+        return list;
     }
 
     /**
@@ -38,10 +158,39 @@ public class TaskList {
      * @param storage The Storage object to help with saving changes to the file.
      * @throws IOException If there are issues saving the TaskList to the file.
      */
-    public void add(Task task, Storage storage) throws IOException {
-        this.list.add(task);
-        this.list.sort(Task::compareTo);
-        storage.save(list);
+    public synchronized void add(Task task, Storage storage) throws IOException {
+        insert(task);
+        storage.recordAdd(task, this);
+    }
+
+    /**
+     * Adds several Tasks to the Task list at once and saves the whole list to the file a single time.
+     *
+     * @param tasks The Task objects to be added.
+     * @param storage The Storage object to help with saving changes to the file.
+     * @throws IOException If there are issues saving the TaskList to the file.
+     */
+    public synchronized void addAll(List<Task> tasks, Storage storage) throws IOException {
+        for (Task task : tasks) {
+            insert(task);
+        }
+        storage.save(toArrayList());
+    }
+
+    /**
+     * Writes the Task list to another file, or switches the format of the task file if no path is given.
+     *
+     * @param path The path of the file to write to, or null to convert the task file itself.
+     * @param isBinary True to use the binary format, false to use the text format.
+     * @param storage The Storage object that writes the file.
+     * @throws IOException If there are issues writing the file.
+     */
+    public synchronized void export(Path path, boolean isBinary, Storage storage) throws IOException {
+        if (path == null) {
+            storage.convert(toArrayList(), isBinary);
+        } else {
+            storage.exportTasks(toArrayList(), path, isBinary);
+        }
     }
 
     /**
@@ -54,11 +203,10 @@ public class TaskList {
      * @return A message informing the user that the Task has been removed.
      * @throws IOException If there are issues saving changes to the file.
      */
-    public String delete(int taskNumber, Storage storage, Ui ui) throws IOException {
-        Task task = list.get(taskNumber - 1);
-        list.remove(taskNumber - 1);
-        storage.save(list);
-        return ui.showMessage("Noted. I've removed this task: ", task, this.list.size());
+    public synchronized String delete(int taskNumber, Storage storage, Ui ui) throws IOException {
+        Task task = remove(taskNumber);
+        storage.recordDelete(taskNumber, this);
+        return ui.showMessage("Noted. I've removed this task: ", task, this.size);
     }
 
     /**
@@ -70,10 +218,10 @@ public class TaskList {
      * @return A message informing the user that the Task has been marked as completed.
      * @throws IOException If there are issues saving changes to the file.
      */
-    public String mark(int taskNumber, Storage storage, Ui ui) throws IOException {
-        Task task = list.get(taskNumber - 1);
+    public synchronized String mark(int taskNumber, Storage storage, Ui ui) throws IOException {
+        Task task = get(taskNumber);
         task.markAsDone();
-        storage.save(list);
+        storage.recordMark(taskNumber, true, this);
         return ui.showMark(task);
     }
 
@@ -86,50 +234,268 @@ public class TaskList {
      * @return A message informing the user that the Task has been unmarked.
      * @throws IOException If there are issues saving changes to the file.
      */
-    public String unmark(int taskNumber, Storage storage, Ui ui) throws IOException {
-        Task task = list.get(taskNumber - 1);
+    public synchronized String unmark(int taskNumber, Storage storage, Ui ui) throws IOException {
+        Task task = get(taskNumber);
         task.markAsUndone();
-        storage.save(list);
+        if (listener != null) {
+            listener.taskUnmarked(task);
+        }
+        storage.recordMark(taskNumber, false, this);
         return ui.showUnmark(task);
     }
 
+    /**
+     * Deletes several Tasks from the TaskList at once, saves the change as a single record, and informs the user.
+     * The task numbers all refer to the list as it was before the deletion, so deleting one Task does not change
+     * which Task another number points at.
+     *
+     * @param taskNumbers The numbers of the Tasks to delete, in ascending order.
+     * @param storage The Storage object to save changes to the file.
+     * @param ui The Ui object to inform the user that the Tasks have been deleted.
+     * @return A message listing the deleted Tasks.
+     * @throws IOException If there are issues saving changes to the file.
+     */
+    public synchronized String deleteAll(int[] taskNumbers, Storage storage, Ui ui) throws IOException {
+        Task[] deleted = new Task[taskNumbers.length];
+        // Removes the largest numbers first so that the smaller ones still point at the same tasks
+        for (int i = taskNumbers.length - 1; i >= 0; i--) {
+            deleted[i] = remove(taskNumbers[i]);
+        }
+        storage.recordDelete(taskNumbers, this);
+        return ui.showDeleteAll(List.of(deleted), this.size);
+    }
+
+    /**
+     * Marks several Tasks as done or not done at once, saves the change as a single record, and informs the user.
+     *
+     * @param taskNumbers The numbers of the Tasks to mark, in ascending order.
+     * @param isDone True to mark the Tasks as done, false to mark them as not done.
+     * @param storage The Storage object to save changes to the file.
+     * @param ui The Ui object to inform the user that the Tasks have been marked.
+     * @return A message listing the marked Tasks.
+     * @throws IOException If there are issues saving changes to the file.
+     */
+    public synchronized String markAll(int[] taskNumbers, boolean isDone, Storage storage, Ui ui)
+            throws IOException {
+        ArrayList<Task> marked = new ArrayList<>(taskNumbers.length);
+        for (int taskNumber : taskNumbers) {
+            Task task = get(taskNumber);
+            if (isDone) {
+                task.markAsDone();
+            } else {
+                task.markAsUndone();
+                if (listener != null) {
+                    listener.taskUnmarked(task);
+                }
+            }
+            marked.add(task);
+        }
+        storage.recordMark(taskNumbers, isDone, this);
+        return isDone ? ui.showMarkAll(marked) : ui.showUnmarkAll(marked);
+    }
+
     /**
      * Displays the list of tasks that the user currently has.
      *
      * @param message A message to be displayed before the list of tasks.
      * @return A String representation of the list of tasks.
      */
-    public String showTasks(String message) {
-        assert this.list != null : "tasklist is null";
+    public synchronized String showTasks(String message) {
+        assert this.buckets != null : "tasklist is null";
         StringBuilder sb = new StringBuilder();
         sb.append(message);
         sb.append("\n");
-        for (int i = 1; i <= this.list.size(); i++) {
-            sb.append(i);
-            sb.append(". ");
-            sb.append(this.list.get(i - 1));
-            if (i != this.list.size()) {
-                sb.append("\n");
-            }
+        try {
+            writeTasks(sb, 1, this.size);
+        } catch (IOException e) {
+            // A StringBuilder never fails to append
+            throw new UncheckedIOException(e);
         }
         return sb.toString();
     }
 
+    /**
+     * Writes the Tasks with numbers in the given range to the output one line at a time, in the same form
+     * as {@link #showTasks(String)}. The lines are separated by line breaks, with none after the last line.
+     * Finding the first Task takes logarithmic time, so later pages of a long list are as quick to write as
+     * the first.
+     *
+     * @param out The output to write the Tasks to.
+     * @param from The number of the first Task to write, starting from 1.
+     * @param to The number of the last Task to write. Numbers past the end of the list are left out.
+     * @throws IOException If there are issues writing to the output.
+     */
+    public synchronized void writeTasks(Appendable out, int from, int to) throws IOException {
+        assert from >= 1 : "Task numbers start from 1";
+        int last = Math.min(to, this.size);
+        int taskNumber = from;
+        int index = from - 1;
+        // Tasks are rendered straight into the output when it is a StringBuilder, or else a line at a time
+        StringBuilder sb = out instanceof StringBuilder ? (StringBuilder) out : new StringBuilder();
+        for (TaskBucket bucket : buckets.values()) {
+            if (index >= bucket.size()) {
+                index -= bucket.size();
+                continue;
+            }
+            Iterator<Task> tasks = bucket.iterator(index);
+            index = 0;
+            while (tasks.hasNext() && taskNumber <= last) {
+                sb.append(taskNumber);
+                sb.append(". ");
+                tasks.next().appendTo(sb);
+                if (taskNumber != last) {
+                    sb.append('\n');
+                }
+                if (sb != out) {
+                    out.append(sb);
+                    sb.setLength(0);
+                }
+                taskNumber++;
+            }
+        }
+    }
+
+    /**
+     * Finds tasks whose names contain all the given words as whole words, ignoring case, and displays them.
+     * Uses the word index, so only tasks containing the rarest of the words are looked at.
+     *
+     * @param words The words to search for.
+     * @param ui The Ui object to display the matching tasks.
+     * @return A message with the matching tasks.
+     */
+    public synchronized String findWholeWords(String words, Ui ui) {
+        buildIndex();
+        int[] matchingIds = wordIndex.find(WordIndex.tokenize(words));
+        return ui.showTasks(new TaskList(getTasksInListOrder(matchingIds)),
+                "Here are the matching tasks in your list: ");
+    }
+
+    private ArrayList<Task> getTasksInListOrder(int[] matchingIds) {
+        ArrayList<Task> tasks = new ArrayList<>(matchingIds.length);
+        for (int id : matchingIds) {
+            Task task = tasksById.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        // Ids follow the order tasks were added in, so only the priority buckets have to be restored
+        tasks.sort(Task::compareTo);
+        return tasks;
+    }
+
+    private void buildIndex() {
+        if (wordIndex != null) {
+            return;
+        }
+        ids = new IdentityHashMap<>();
+        tasksById = new ArrayList<>();
+        removedIdCount = 0;
+        wordIndex = new WordIndex();
+        trigramIndex = new TrigramIndex();
+        for (TaskBucket bucket : buckets.values()) {
+            for (Task task : bucket) {
+                indexWords(task);
+            }
+        }
+    }
+
+    private void index(Task task) {
+        if (eventIndex != null && task instanceof Event) {
+            eventIndex.add((Event) task);
+        }
+        if (wordIndex != null) {
+            indexWords(task);
+        }
+    }
+
+    private void indexWords(Task task) {
+        int id = tasksById.size();
+        ids.put(task, id);
+        tasksById.add(task);
+        wordIndex.add(id, task.getTaskName());
+        trigramIndex.add(id, task.getTaskName());
+    }
+
+    private void unindex(Task task) {
+        if (eventIndex != null && task instanceof Event) {
+            eventIndex.remove((Event) task);
+        }
+        if (wordIndex == null) {
+            return;
+        }
+        // Taking the id out of every posting list would cost time in the size of the lists, so it is left there
+        tasksById.set(ids.remove(task), null);
+        removedIdCount++;
+        if (removedIdCount > ids.size()) {
+            ids = null;
+            tasksById = null;
+            wordIndex = null;
+            trigramIndex = null;
+        }
+    }
+
     /**
      * Finds tasks containing the specified search string and displays them.
+     * Search strings of three or more characters are narrowed down with the trigram index first.
      *
      * @param string The string to search for within the task descriptions.
      * @param ui The Ui object to display the matching tasks.
      * @return A message with the matching tasks.
      */
-    public String findWord(String string, Ui ui) {
+    public synchronized String findWord(String string, Ui ui) {
         ArrayList<Task> matchingTasks = new ArrayList<>();
-        for (Task task : this.list) {
-            if (task.checkHaveSearchString(string)) {
-                matchingTasks.add(task);
+        if (string.length() >= TrigramIndex.GRAM_LENGTH) {
+            buildIndex();
+            for (Task task : getTasksInListOrder(trigramIndex.findCandidates(string))) {
+                if (task.checkHaveSearchString(string)) {
+                    matchingTasks.add(task);
+                }
+            }
+        } else {
+            for (TaskBucket bucket : buckets.values()) {
+                for (Task task : bucket) {
+                    if (task.checkHaveSearchString(string)) {
+                        matchingTasks.add(task);
+                    }
+                }
             }
         }
         return ui.showTasks(new TaskList(matchingTasks), "Here are the matching tasks in your list: ");
     }
-}
 
+    /**
+     * Returns the Events that share some time with the given period, ordered by start time.
+     * Events that end exactly when the period starts, or start exactly when it ends, do not count.
+     * The Events are looked up in an interval tree that is built the first time this is called.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The overlapping Events.
+     */
+    public synchronized ArrayList<Event> getOverlappingEvents(LocalDateTime from, LocalDateTime to) {
+        if (eventIndex == null) {
+            eventIndex = new EventIndex();
+            for (TaskBucket bucket : buckets.values()) {
+                for (Task task : bucket) {
+                    if (task instanceof Event) {
+                        eventIndex.add((Event) task);
+                    }
+                }
+            }
+        }
+        return eventIndex.findOverlapping(Parser.toEpochMinutes(from), Parser.toEpochMinutes(to));
+    }
+
+    /**
+     * Finds the Events that share some time with the given period and displays them.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @param ui The Ui object to display the overlapping Events.
+     * @return A message with the overlapping Events.
+     */
+    public synchronized String findOverlaps(LocalDateTime from, LocalDateTime to, Ui ui) {
+        ArrayList<Task> events = new ArrayList<>(getOverlappingEvents(from, to));
+        return ui.showTasks(new TaskList(events), "Here are the events happening in that period: ");
+    }
+}
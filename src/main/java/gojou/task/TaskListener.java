@@ -0,0 +1,27 @@
+package gojou.task;
+
+/**
+ * Listens for Tasks being added to, removed from or marked as not done in a {@link TaskList}.
+ */
+public interface TaskListener {
+    /**
+     * Called after a Task is added to the list.
+     *
+     * @param task The Task that was added.
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Called after a Task is removed from the list.
+     *
+     * @param task The Task that was removed.
+     */
+    void taskRemoved(Task task);
+
+    /**
+     * Called after a Task in the list is marked as not done.
+     *
+     * @param task The Task that was unmarked.
+     */
+    void taskUnmarked(Task task);
+}
@@ -10,12 +10,14 @@ public class Todo extends Task {
     }
 
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    public void appendTo(StringBuilder sb) {
+        sb.append("[T]");
+        super.appendTo(sb);
     }
 
     @Override
-    public String toStorageString() {
-        return "[T]" + super.toStorageString();
+    public void appendStorageTo(StringBuilder sb) {
+        sb.append("[T]");
+        super.appendStorageTo(sb);
     }
 }
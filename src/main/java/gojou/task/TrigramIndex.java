@@ -0,0 +1,60 @@
+package gojou.task;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Maps every run of three characters in the task names to the ids of the tasks containing it.
+ * A task can only contain a search string if it contains all of the string's trigrams, so the index
+ * narrows a substring search down to a few candidates that still have to be checked.
+ */
+class TrigramIndex {
+    static final int GRAM_LENGTH = 3;
+
+    private final HashMap<Long, PostingList> postings = new HashMap<>();
+
+    void add(int id, String taskName) {
+        for (long trigram : getTrigrams(taskName)) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Returns the ids of the tasks whose names contain every trigram of the search string, in increasing order.
+     * The search string must be at least three characters long.
+     */
+    int[] findCandidates(String searchString) {
+        assert searchString.length() >= GRAM_LENGTH : "Search string too short for the trigram index";
+        long[] trigrams = getTrigrams(searchString);
+        PostingList[] lists = new PostingList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            lists[i] = postings.get(trigrams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        return PostingList.intersect(lists);
+    }
+
+    /**
+     * Returns the distinct trigrams of the text, each packed into a long as three 16-bit characters.
+     */
+    private static long[] getTrigrams(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] trigrams = new long[text.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+}
@@ -0,0 +1,52 @@
+package gojou.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps each word in the task names to the ids of the tasks containing it.
+ * Words are runs of letters and digits, compared without regard to case.
+ */
+class WordIndex {
+    private final HashMap<String, PostingList> postings = new HashMap<>();
+
+    void add(int id, String taskName) {
+        for (String word : tokenize(taskName)) {
+            postings.computeIfAbsent(word, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Returns the ids of the tasks whose names contain all of the given words, in increasing order.
+     */
+    int[] find(List<String> words) {
+        PostingList[] lists = new PostingList[words.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(words.get(i));
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        return PostingList.intersect(lists);
+    }
+
+    /**
+     * Splits text into lowercase words made of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start == -1) {
+                start = i;
+            } else if (!isWordCharacter && start != -1) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
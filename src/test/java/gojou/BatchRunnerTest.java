@@ -0,0 +1,52 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRunSavesChangesAtEndOfInput() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Gojou gojou = new Gojou(filePath);
+        gojou.loadTasksFromFile();
+        // Nothing would reach the file before the end of the input if it were not saved then
+        gojou.setSaveInterval(60_000);
+
+        StringBuilder commands = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            commands.append("todo task ").append(i).append('\n');
+        }
+        commands.append("\nmark 1-10\ndelete 1000\n");
+        StringWriter out = new StringWriter();
+        long commandCount = new BatchRunner(gojou, out, false)
+                .run(new BufferedReader(new StringReader(commands.toString())));
+
+        assertEquals(1002, commandCount);
+        assertTrue(out.toString().endsWith("    [T][-][ ] task 1000\nNow you have 999 tasks in the list\n\n"));
+        assertEquals(999, new Storage(filePath).load().size());
+    }
+
+    @Test
+    public void testRunStopsAtBye() throws Exception {
+        Gojou gojou = new Gojou(tempDir.resolve("Gojou.txt").toString());
+        gojou.loadTasksFromFile();
+
+        StringWriter out = new StringWriter();
+        long commandCount = new BatchRunner(gojou, out, false)
+                .run(new BufferedReader(new StringReader("todo one\nbye\ntodo two\n")));
+
+        assertEquals(2, commandCount);
+        assertTrue(out.toString().endsWith(new Ui().showGoodbye() + "\n\n"));
+    }
+}
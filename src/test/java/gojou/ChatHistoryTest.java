@@ -0,0 +1,42 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChatHistoryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testTakeLatestReturnsSpilledMessages() throws Exception {
+        try (ChatHistory history = new ChatHistory(tempDir.resolve("Gojou.history"))) {
+            List<ChatMessage> messages = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                messages.add(ChatMessage.fromUser("list " + i));
+                messages.add(ChatMessage.fromGojou("Here are the tasks in your list:\n1. [T][-][ ] task " + i, ""));
+            }
+            history.spill(messages.subList(0, 4));
+            history.spill(messages.subList(4, 10));
+
+            List<ChatMessage> latest = history.takeLatest(3);
+            assertEquals(7, history.size());
+            assertEquals("Here are the tasks in your list:\n1. [T][-][ ] task 4", latest.get(0).getText());
+            assertTrue(latest.get(1).isFromUser());
+
+            // Messages spilled again go after the ones still on disk
+            history.spill(latest.subList(0, 1));
+            latest = history.takeLatest(10);
+            assertEquals(8, latest.size());
+            assertEquals("list 1", latest.get(0).getText());
+            assertEquals("task 4", latest.get(7).getText().substring(latest.get(7).getText().length() - 6));
+            assertEquals(0, history.size());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GojouTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGetResponseAsyncKeepsCommandOrder() throws Exception {
+        Gojou gojou = new Gojou(tempDir.resolve("Gojou.txt").toString());
+        gojou.loadTasksFromFile();
+
+        List<CompletableFuture<Pair<String, String>>> responses = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            responses.add(gojou.getResponseAsync("todo task " + i));
+        }
+        responses.add(gojou.getResponseAsync("delete 1"));
+
+        for (int i = 1; i <= 50; i++) {
+            assertTrue(responses.get(i - 1).get().getFirst().endsWith("Now you have " + i + " tasks in the list"));
+        }
+        assertEquals("DeleteCommand", responses.get(50).get().getSecond());
+        assertTrue(responses.get(50).get().getFirst().contains("task 1\n"));
+    }
+
+    @Test
+    public void testShutdownSavesCommandsStillWaitingToRun() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Gojou gojou = new Gojou(filePath);
+        gojou.loadTasksFromFile();
+        // Nothing is written out on its own while the test runs
+        gojou.setSaveInterval(60 * 60 * 1000);
+
+        for (int i = 1; i <= 2000; i++) {
+            gojou.getResponseAsync("todo task " + i);
+        }
+        gojou.shutdown();
+
+        assertEquals(2000, new Storage(filePath).load().size());
+    }
+
+    @Test
+    public void testLoadTasksInBackgroundRunsChangesAfterLoading() throws Exception {
+        Path file = tempDir.resolve("Gojou.txt");
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 25_000; i++) {
+            lines.append("[T][ ] task ").append(i).append("\n");
+        }
+        Files.writeString(file, lines);
+
+        Gojou gojou = new Gojou(file.toString());
+        List<Integer> progress = new ArrayList<>();
+        CompletableFuture<Void> loading = gojou.loadTasksInBackground(progress::add);
+        Pair<String, String> response = gojou.getResponseAsync("todo one more").get();
+
+        assertTrue(loading.isDone());
+        assertTrue(response.getFirst().endsWith("Now you have 25001 tasks in the list"));
+        assertEquals(25_000, (int) progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void testLoadTasksInBackgroundCompletesWhenFileIsCorrupt() throws Exception {
+        Path file = tempDir.resolve("Gojou.txt");
+        // A binary snapshot of one todo whose name length does not fit in an int
+        Files.write(file, new byte[] {'G', 'O', 'J', 'B', 1, 0, 0, 0, 1, 'T', 0,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F});
+
+        Gojou gojou = new Gojou(file.toString());
+        CompletableFuture<Void> loading = gojou.loadTasksInBackground(taskCount -> { });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> loading.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof GojouException);
+        Pair<String, String> response = gojou.getResponseAsync("todo x").get(5, TimeUnit.SECONDS);
+        assertEquals("Error", response.getSecond());
+    }
+
+    @Test
+    public void testStatsShowsLatencyOfEachCommandType() throws Exception {
+        Gojou gojou = new Gojou(tempDir.resolve("Gojou.txt").toString());
+        gojou.loadTasksFromFile();
+        gojou.getResponse("todo read book");
+        gojou.getResponse("list");
+        gojou.getResponse("fly to the moon");
+
+        Pair<String, String> response = gojou.getResponse("stats");
+
+        assertEquals("StatsCommand", response.getSecond());
+        assertTrue(response.getFirst().contains("\nAddCommand: "));
+        assertTrue(response.getFirst().contains("\nListCommand: "));
+        assertTrue(response.getFirst().contains("\nError: "));
+        assertTrue(response.getFirst().contains("| persist p50 "));
+        assertTrue(response.getFirst().contains("\nBytes written: "));
+    }
+}
@@ -0,0 +1,27 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class ParserTest {
+    @Test
+    public void testConvertDateTimeMethod() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), Parser.convertDateTime("2024-02-29 2359"));
+        assertEquals(LocalDateTime.of(1, 1, 1, 0, 0), Parser.convertDateTime("0001-01-01 0000"));
+        // Days past the end of the month and midnight written as 2400 are adjusted as the formatter does
+        assertEquals(LocalDateTime.of(2023, 2, 28, 9, 0), Parser.convertDateTime("2023-02-30 0900"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 0, 0), Parser.convertDateTime("2024-01-01 2400"));
+
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024-13-01 0900"));
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024-01-01 2401"));
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024-01-32 0900"));
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024-1-01 0900"));
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024/01/01 0900"));
+        assertThrows(DateTimeParseException.class, () -> Parser.convertDateTime("2024-01-01 09:00"));
+    }
+}
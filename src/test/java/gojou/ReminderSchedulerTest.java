@@ -0,0 +1,119 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gojou.task.Deadline;
+import gojou.task.Event;
+import gojou.task.Priority;
+import gojou.task.Task;
+import gojou.task.TaskList;
+
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 9, 16, 9, 0);
+
+    @TempDir
+    public Path tempDir;
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class ManualClock extends Clock {
+        private Instant instant = START.toInstant(ZoneOffset.UTC);
+
+        void advanceMinutes(long minutes) {
+            instant = instant.plusSeconds(minutes * 60);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    public void testRemindersComeUpBeforeTheirTime() {
+        ManualClock clock = new ManualClock();
+        List<List<Task>> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(reminders::add, 30, clock);
+
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.setListener(scheduler);
+        tasks.insert(new Deadline("submit report", false, Priority.NONE, START.plusMinutes(90)));
+        tasks.insert(new Event("lecture", false, Priority.NONE, START.plusMinutes(45), START.plusMinutes(120)));
+        tasks.insert(new Deadline("pay bills", false, Priority.NONE, START.plusDays(3)));
+        tasks.insert(new Deadline("overdue", false, Priority.NONE, START.minusMinutes(5)));
+
+        clock.advanceMinutes(14);
+        scheduler.tick();
+        assertTrue(reminders.isEmpty());
+
+        clock.advanceMinutes(1);
+        scheduler.tick();
+        assertEquals(1, reminders.size());
+        assertEquals("lecture", reminders.get(0).get(0).getTaskName());
+
+        // Removed and completed tasks are not reminded of
+        tasks.remove(3);
+        tasks.get(1).markAsDone();
+        clock.advanceMinutes(3 * 24 * 60);
+        scheduler.tick();
+        assertEquals(1, reminders.size());
+    }
+
+    @Test
+    public void testUnmarkedTasksAreRemindedOf() throws Exception {
+        ManualClock clock = new ManualClock();
+        List<List<Task>> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(reminders::add, 30, clock);
+        Storage storage = new Storage(tempDir.resolve("Gojou.txt").toString());
+        Ui ui = new Ui();
+
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.setListener(scheduler);
+        tasks.insert(new Deadline("submit report", true, Priority.NONE, START.plusMinutes(100)));
+        tasks.insert(new Deadline("pay bills", false, Priority.NONE, START.plusMinutes(120)));
+        tasks.insert(new Deadline("return book", true, Priority.NONE, START.plusMinutes(150)));
+
+        // Done when its reminder comes up, so it is skipped
+        tasks.mark(2, storage, ui);
+        clock.advanceMinutes(90);
+        scheduler.tick();
+        assertTrue(reminders.isEmpty());
+
+        tasks.unmark(1, storage, ui);
+        tasks.markAll(new int[] {2, 3}, false, storage, ui);
+        scheduler.tick();
+        assertEquals(1, reminders.size());
+        assertEquals(List.of("submit report", "pay bills"),
+                reminders.get(0).stream().map(Task::getTaskName).toList());
+
+        clock.advanceMinutes(30);
+        scheduler.tick();
+        assertEquals(2, reminders.size());
+        assertEquals("return book", reminders.get(1).get(0).getTaskName());
+        storage.flush();
+    }
+}
@@ -0,0 +1,162 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gojou.task.Priority;
+import gojou.task.TaskList;
+import gojou.task.Todo;
+
+public class StorageTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLoadReplaysJournal() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Storage storage = new Storage(filePath);
+        TaskList tasks = new TaskList(storage.load());
+        Ui ui = new Ui();
+
+        tasks.add(new Todo("1st task", false, Priority.NONE), storage);
+        tasks.add(new Todo("2nd task", false, Priority.HIGH), storage);
+        tasks.add(new Todo("3rd task", false, Priority.LOW), storage);
+        tasks.mark(2, storage, ui);
+        tasks.delete(1, storage, ui);
+        storage.flush();
+
+        TaskList reloaded = new TaskList(new Storage(filePath).load());
+        assertEquals(tasks.showTasks("Testing..."), reloaded.showTasks("Testing..."));
+    }
+
+    @Test
+    public void testLoadReplaysBatchJournalRecords() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Storage storage = new Storage(filePath);
+        TaskList tasks = new TaskList(storage.load());
+        Ui ui = new Ui();
+
+        for (int i = 1; i <= 10; i++) {
+            tasks.add(new Todo("task " + i, false, Priority.NONE), storage);
+        }
+        tasks.markAll(Parser.parseTaskNumbers("2-6,9", tasks.getSize()), true, storage, ui);
+        String response = tasks.deleteAll(Parser.parseTaskNumbers("1,3-4,10", tasks.getSize()), storage, ui);
+        storage.flush();
+
+        assertTrue(response.contains("task 1\n    [T][-][X] task 3\n    [T][-][X] task 4\n    [T][-][ ] task 10"));
+        assertEquals(6, tasks.getSize());
+        assertTrue(Files.readString(tempDir.resolve("Gojou.txt.journal")).endsWith("delete 1,3-4,10"
+                + System.lineSeparator()));
+        TaskList reloaded = new TaskList(new Storage(filePath).load());
+        assertEquals(tasks.showTasks("Testing..."), reloaded.showTasks("Testing..."));
+    }
+
+    @Test
+    public void testJournalIsWrittenAfterCommitWindow() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Storage storage = new Storage(filePath);
+        storage.setDurabilityPolicy(DurabilityPolicy.PER_BATCH);
+        storage.setCommitWindow(1);
+        TaskList tasks = new TaskList(storage.load());
+
+        for (int i = 1; i <= 20; i++) {
+            tasks.add(new Todo("task " + i, false, Priority.NONE), storage);
+        }
+
+        // Waits for the background commit instead of flushing, giving up after five seconds
+        Path journal = tempDir.resolve("Gojou.txt.journal");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!Files.exists(journal) || Files.readAllLines(journal).size() < 20) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(20, Files.readAllLines(journal).size());
+        TaskList reloaded = new TaskList(new Storage(filePath).load());
+        assertEquals(tasks.showTasks("Testing..."), reloaded.showTasks("Testing..."));
+    }
+
+    @Test
+    public void testLoadIgnoresTornJournalRecord() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Files.writeString(Path.of(filePath), "[T][ ] 1st task \n[T][ ] 2nd task ");
+        Files.writeString(Path.of(filePath + ".journal"), "mark 2\ndelete 1", StandardOpenOption.CREATE);
+
+        TaskList tasks = new TaskList(new Storage(filePath).load());
+
+        String expectedResult = """
+                                    Testing...
+                                    1. [T][-][ ] 1st task
+                                    2. [T][-][X] 2nd task""";
+        assertEquals(expectedResult, tasks.showTasks("Testing..."));
+    }
+
+    @Test
+    public void testLoadReportsLineNumber() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Files.writeString(Path.of(filePath), "[T][ ] 1st task \n\n[D][ ] 2nd task /by tomorrow\n[T][ ] 3rd task ");
+        String expectedMessage = "Line 3: Text 'tomorrow' could not be parsed at index 0";
+
+        GojouException e = assertThrows(GojouException.class, () -> new Storage(filePath).load());
+        assertEquals(expectedMessage, e.getMessage());
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            e = assertThrows(GojouException.class, () -> new ParallelTaskLoader(pool).load(Path.of(filePath)));
+            assertEquals(expectedMessage, e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBinaryFormatRoundTrip() throws Exception {
+        String filePath = tempDir.resolve("Gojou.txt").toString();
+        Files.writeString(Path.of(filePath), "[D][X] submit assignment //high /by 2024-09-19 2359\n"
+                + "[E][ ] JB trip //medium /from 2024-09-15 0900 /to 2024-09-16 2100\n[T][ ] laundry ");
+        Storage storage = new Storage(filePath);
+        TaskList tasks = new TaskList(storage.load());
+
+        tasks.export(null, true, storage);
+        tasks.mark(3, storage, new Ui());
+        storage.flush();
+
+        assertTrue(BinaryTaskFormat.isBinary(Path.of(filePath)));
+        TaskList reloaded = new TaskList(new Storage(filePath).load());
+        assertEquals(tasks.showTasks("Testing..."), reloaded.showTasks("Testing..."));
+    }
+
+    @Test
+    public void testLoadCorruptBinaryFormatThrowsGojouException() throws Exception {
+        Path path = tempDir.resolve("Gojou.txt");
+        byte[] hugeLength = {'G', 'O', 'J', 'B', 1, 0, 0, 0, 1, 'T', 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, 0x0F};
+        byte[] hugeCount = {'G', 'O', 'J', 'B', 1, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 'T', 0, 1, 'x'};
+        byte[] longerThanFile = {'G', 'O', 'J', 'B', 1, 0, 0, 0, 1, 'T', 0, 0x7F, 'x'};
+
+        for (byte[] bytes : List.of(hugeLength, hugeCount, longerThanFile)) {
+            Files.write(path, bytes);
+            GojouException e = assertThrows(GojouException.class, () -> new Storage(path.toString()).load());
+            assertTrue(e.getMessage().contains("is cut short"));
+        }
+    }
+
+    @Test
+    public void testJournalSizeCountsEncodedBytes() {
+        List<String> records = List.of("todo read book", "todo caf\u00e9 cr\u00e8me", "todo \u8aad\u66f8",
+                "todo \uD83C\uDF89 party", "todo \uD83D unpaired");
+        for (String record : records) {
+            assertEquals(StandardCharsets.UTF_8.encode(record).remaining(), Storage.getUtf8Length(record));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gojou.task.Task;
+
+public class TaskImporterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReadCsvSkipsBadRows() throws Exception {
+        Path file = tempDir.resolve("tasks.csv");
+        Files.writeString(file, "type,description,done,priority,date,end\n"
+                + "todo,\"buy milk, eggs\",yes,high\n"
+                + "deadline,submit report,no,,2024-05-19 1800\n"
+                + "chore,sweep floor\n"
+                + "\n"
+                + "event,\"the \"\"big\"\" camp\",,low,2024-05-19 1800,2024-05-20 1800\n"
+                + "deadline,pay bills,no,,tomorrow\n");
+
+        TaskImporter importer = new TaskImporter();
+        ArrayList<Task> imported = new ArrayList<>();
+        importer.read(file, imported::addAll);
+
+        assertEquals(3, imported.size());
+        assertEquals("[T][HIGH][X] buy milk, eggs", imported.get(0).toString());
+        assertEquals("[D][-][ ] submit report (by: May 19 2024 6.00pm)", imported.get(1).toString());
+        assertTrue(imported.get(2).toString().startsWith("[E][LOW][ ] the \"big\" camp"));
+        assertEquals(2, importer.getErrorCount());
+        assertEquals("Line 4: The type should be todo, deadline or event.", importer.getErrors().get(0));
+        assertTrue(importer.getErrors().get(1).startsWith("Line 7: "));
+    }
+
+    @Test
+    public void testReadTaskFileCarriesOnAfterBadLines() throws Exception {
+        Path file = tempDir.resolve("tasks.txt");
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 25_000; i++) {
+            lines.append(i % 1000 == 0 ? "not a task\n" : "[T][ ] task " + i + "\n");
+        }
+        Files.writeString(file, lines);
+
+        TaskImporter importer = new TaskImporter();
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        importer.read(file, batch -> batchSizes.add(batch.size()));
+
+        assertEquals(3, batchSizes.size());
+        assertEquals(24_975, batchSizes.get(0) + batchSizes.get(1) + batchSizes.get(2));
+        assertEquals(25, importer.getErrorCount());
+        assertEquals(10, importer.getErrors().size());
+        assertEquals("Line 1000: This is not a todo, deadline or event.", importer.getErrors().get(0));
+    }
+}
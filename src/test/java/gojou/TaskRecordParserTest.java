@@ -0,0 +1,33 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskRecordParserTest {
+    @Test
+    public void testParseStorageStrings() throws GojouException {
+        TaskRecordParser parser = new TaskRecordParser();
+
+        assertEquals("[D][X] submit CS2100 assignment 1 //high /by 2024-09-19 2359",
+                parser.parse("[D][X] submit CS2100 assignment 1 //high /by 2024-09-19 2359").toStorageString());
+        assertEquals("[T][ ] faiow efaw //medium",
+                parser.parse("[T][ ] faiow  efaw //medium").toStorageString());
+        assertEquals("[E][ ] JB trip //medium /from 2024-09-15 0900 /to 2024-09-16 2100",
+                parser.parse("[E][ ] JB trip //medium /from 2024-09-15 0900 /to 2024-09-16 2100\r")
+                        .toStorageString());
+        assertNull(parser.parse("   "));
+    }
+
+    @Test
+    public void testParseInvalidRecord() {
+        GojouException e = assertThrows(GojouException.class, () -> new TaskRecordParser()
+                .parse("[E][ ] JB trip /to 2024-09-16 2100"));
+
+        assertEquals("Oops, looks like you tripped up! No worries though - mistakes are just part of "
+                + "getting stronger. Let's try that again, shall we? Please provide a start time with '/from' "
+                + "followed by the time", e.getMessage());
+    }
+}
@@ -0,0 +1,42 @@
+package gojou;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenizerTest {
+    @Test
+    public void testSplitsLikeScanner() {
+        String[] lines = {"deadline  return book /by 2024-09-19 1800", "   ", "", "\ttodo\u2003read\nbook  ",
+            "event camp //high /from 2024-09-19 0900 /to 2024-09-20 2100", "mark 1-3,5"};
+        for (String line : lines) {
+            List<String> expected = new ArrayList<>();
+            Scanner scanner = new Scanner(line);
+            while (scanner.hasNext()) {
+                expected.add(scanner.next());
+            }
+
+            List<String> words = new ArrayList<>();
+            Tokenizer tokenizer = new Tokenizer(line);
+            while (tokenizer.hasNext()) {
+                words.add(tokenizer.next());
+            }
+            assertEquals(expected, words);
+        }
+    }
+
+    @Test
+    public void testNextThrowsAtEndOfLine() {
+        Tokenizer tokenizer = new Tokenizer("list ");
+        tokenizer.next();
+        assertFalse(tokenizer.hasNext());
+        assertThrows(NoSuchElementException.class, tokenizer::next);
+    }
+}
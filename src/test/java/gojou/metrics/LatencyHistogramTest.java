@@ -0,0 +1,40 @@
+package gojou.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testBucketsCoverEveryValue() {
+        long previousHighest = -1;
+        for (int i = 0; LatencyHistogram.highestValueIn(i) != Long.MAX_VALUE; i++) {
+            long highest = LatencyHistogram.highestValueIn(i);
+            assertEquals(i, LatencyHistogram.indexOf(previousHighest + 1));
+            assertEquals(i, LatencyHistogram.indexOf(highest));
+            // No bucket is wider than a sixteenth of the values in it
+            assertTrue(highest - previousHighest - 1 <= (previousHighest + 1) / 16);
+            previousHighest = highest;
+        }
+        assertEquals(LatencyHistogram.indexOf(Long.MAX_VALUE), LatencyHistogram.indexOf(previousHighest + 1));
+    }
+
+    @Test
+    public void testValueAtPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 17 / 16, "median " + median);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+}
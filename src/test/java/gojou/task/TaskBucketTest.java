@@ -0,0 +1,36 @@
+package gojou.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskBucketTest {
+    @Test
+    public void testRemoveKeepsPositions() {
+        TaskBucket bucket = new TaskBucket();
+        ArrayList<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Task task = new Task("task " + i, false, Priority.NONE);
+            bucket.add(task);
+            expected.add(task);
+        }
+
+        // Removes enough tasks for the empty slots to be packed away in between
+        for (int i = 0; i < 150; i++) {
+            int index = (i * 7) % expected.size();
+            assertSame(expected.remove(index), bucket.remove(index));
+        }
+        bucket.add(new Task("last task", false, Priority.NONE));
+        expected.add(bucket.get(expected.size()));
+
+        assertEquals(expected.size(), bucket.size());
+        ArrayList<Task> actual = new ArrayList<>();
+        for (Task task : bucket) {
+            actual.add(task);
+        }
+        assertEquals(expected, actual);
+    }
+}
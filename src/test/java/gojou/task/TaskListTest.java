@@ -2,10 +2,14 @@ package gojou.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
 
+import gojou.Ui;
+
 public class TaskListTest {
     @Test
     public void testGetSizeMethod() {
@@ -31,4 +35,143 @@ public class TaskListTest {
 
         assertEquals(expectedResult, tasklist.showTasks("Testing..."));
     }
+
+    @Test
+    public void testFindWholeWordsMethod() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("read notebook", false, Priority.NONE));
+        tasks.add(new Task("Read book", false, Priority.LOW));
+        tasks.add(new Task("book flights, read reviews", false, Priority.HIGH));
+        TaskList tasklist = new TaskList(tasks);
+
+        String expectedResult = """
+                                    Here are the matching tasks in your list:\s
+                                    1. [HIGH][ ] book flights, read reviews
+                                    2. [LOW][ ] Read book""";
+
+        assertEquals(expectedResult, tasklist.findWholeWords("book READ", new Ui()));
+    }
+
+    @Test
+    public void testFindAfterRemovingIndexedTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new Task("read book " + i, false, Priority.NONE));
+        }
+        TaskList tasklist = new TaskList(tasks);
+        tasklist.findWholeWords("book", new Ui());
+
+        tasklist.remove(1);
+        tasklist.remove(5);
+        String expectedResult = """
+                                    Here are the matching tasks in your list:\s
+                                    1. [-][ ] read book 1""";
+        assertEquals(expectedResult, tasklist.findWholeWords("book 1", new Ui()));
+        assertEquals("""
+                         Here are the matching tasks in your list:\s
+                         1. [-][ ] read book 6""", tasklist.findWord("ok 6", new Ui()));
+
+        // Removing more than half of the tasks drops the index, which is rebuilt on the next search
+        for (int i = 0; i < 5; i++) {
+            tasklist.remove(1);
+        }
+        tasklist.insert(new Task("book club", false, Priority.HIGH));
+        expectedResult = """
+                            Here are the matching tasks in your list:\s
+                            1. [HIGH][ ] book club
+                            2. [-][ ] read book 7
+                            3. [-][ ] read book 8
+                            4. [-][ ] read book 9""";
+        assertEquals(expectedResult, tasklist.findWholeWords("book", new Ui()));
+        assertEquals(expectedResult, tasklist.findWord("book", new Ui()));
+    }
+
+    @Test
+    public void testFindWordMethod() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("read notebook", false, Priority.NONE));
+        tasks.add(new Task("Read book", false, Priority.LOW));
+        tasks.add(new Task("bookbook", false, Priority.HIGH));
+        TaskList tasklist = new TaskList(tasks);
+
+        String expectedResult = """
+                                    Here are the matching tasks in your list:\s
+                                    1. [HIGH][ ] bookbook
+                                    2. [LOW][ ] Read book
+                                    3. [-][ ] read notebook""";
+        assertEquals(expectedResult, tasklist.findWord("book", new Ui()));
+
+        expectedResult = """
+                            Here are the matching tasks in your list:\s
+                            1. [LOW][ ] Read book
+                            2. [-][ ] read notebook""";
+        assertEquals(expectedResult, tasklist.findWord("d", new Ui()));
+    }
+
+    @Test
+    public void testPriorityOrderIsKeptOnAdd() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("1st task", false, Priority.NONE));
+        tasks.add(new Task("2nd task", false, Priority.HIGH));
+        TaskList tasklist = new TaskList(tasks);
+        tasklist.insert(new Task("3rd task", false, Priority.LOW));
+        tasklist.insert(new Task("4th task", false, Priority.HIGH));
+        tasklist.remove(1);
+
+        String expectedResult = """
+                                    Testing...
+                                    1. [HIGH][ ] 4th task
+                                    2. [LOW][ ] 3rd task
+                                    3. [-][ ] 1st task""";
+
+        assertEquals(expectedResult, tasklist.showTasks("Testing..."));
+        assertEquals("4th task", tasklist.get(1).getTaskName());
+        assertEquals(3, tasklist.getSize());
+    }
+
+    @Test
+    public void testGetOverlappingEventsMethod() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("lecture", false, Priority.NONE, LocalDateTime.of(2024, 9, 16, 10, 0),
+                LocalDateTime.of(2024, 9, 16, 12, 0)));
+        tasks.add(new Todo("laundry", false, Priority.NONE));
+        tasks.add(new Event("lunch", false, Priority.NONE, LocalDateTime.of(2024, 9, 16, 12, 0),
+                LocalDateTime.of(2024, 9, 16, 13, 0)));
+        tasks.add(new Event("JB trip", false, Priority.HIGH, LocalDateTime.of(2024, 9, 15, 9, 0),
+                LocalDateTime.of(2024, 9, 16, 21, 0)));
+        TaskList tasklist = new TaskList(tasks);
+
+        ArrayList<Event> overlapping = tasklist.getOverlappingEvents(LocalDateTime.of(2024, 9, 16, 11, 0),
+                LocalDateTime.of(2024, 9, 16, 12, 0));
+        assertEquals(2, overlapping.size());
+        assertEquals("JB trip", overlapping.get(0).getTaskName());
+        assertEquals("lecture", overlapping.get(1).getTaskName());
+
+        tasklist.remove(1);
+        tasklist.insert(new Event("tutorial", false, Priority.LOW, LocalDateTime.of(2024, 9, 16, 11, 30),
+                LocalDateTime.of(2024, 9, 16, 12, 30)));
+        overlapping = tasklist.getOverlappingEvents(LocalDateTime.of(2024, 9, 16, 12, 0),
+                LocalDateTime.of(2024, 9, 16, 12, 30));
+        assertEquals(2, overlapping.size());
+        assertEquals("tutorial", overlapping.get(0).getTaskName());
+        assertEquals("lunch", overlapping.get(1).getTaskName());
+    }
+
+    @Test
+    public void testWriteTasksMethod() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("1st task", false, Priority.HIGH));
+        tasks.add(new Task("2nd task", false, Priority.HIGH));
+        tasks.add(new Task("3rd task", false, Priority.LOW));
+        tasks.add(new Task("4th task", false, Priority.NONE));
+        TaskList tasklist = new TaskList(tasks);
+
+        StringBuilder sb = new StringBuilder();
+        tasklist.writeTasks(sb, 2, 3);
+        assertEquals("2. [HIGH][ ] 2nd task\n3. [LOW][ ] 3rd task", sb.toString());
+
+        sb.setLength(0);
+        tasklist.writeTasks(sb, 4, 6);
+        assertEquals("4. [-][ ] 4th task", sb.toString());
+    }
 }
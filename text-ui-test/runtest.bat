@@ -3,19 +3,23 @@
 REM create bin directory if it doesn't exist
 if not exist ..\bin mkdir ..\bin
 
-REM delete output from previous run
+REM delete output and tasks from previous run
 if exist ACTUAL.TXT del ACTUAL.TXT
+if exist data rmdir /s /q data
 
-REM compile the code into the bin folder
-javac  -cp ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\*.java
+REM compile the code into the bin folder, leaving out the JavaFX window
+dir /s /b ..\src\main\java\*.java | findstr /v /i "\\javafx\\" > sources.txt
+javac -Xlint:none -d ..\bin @sources.txt
 IF ERRORLEVEL 1 (
+    del sources.txt
     echo ********** BUILD FAILURE **********
     exit /b 1
 )
 REM no error here, errorlevel == 0
+del sources.txt
 
-REM run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ..\bin Alex < input.txt > ACTUAL.TXT
+REM run the program without a window, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
+java -classpath ..\bin gojou.BatchRunner --data data\Gojou.txt < input.txt > ACTUAL.TXT
 
 REM compare the output to the expected output
 FC ACTUAL.TXT EXPECTED.TXT